@@ -0,0 +1,57 @@
+package intlist.bench;
+
+import intlist.AppendOnlyIntList;
+import intlist.ConcurrentIntList;
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append throughput of one list shared by several producer threads:
+ * the lock-free AppendOnlyIntList against the locking ConcurrentIntList.
+ *
+ * Run with a thread count, for example -Pjmh.args='-t 4', and compare
+ * how the score grows with the number of producers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AppendBenchmark {
+
+    @Param({"APPEND_ONLY", "CONCURRENT"})
+    public String implementation;
+
+    private IntList list;
+
+    // a fresh list every iteration, so the lists do not grow without bound
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = implementation.equals("APPEND_ONLY") ? new AppendOnlyIntList() : new ConcurrentIntList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        Implementation.release(list);
+    }
+
+    @Benchmark
+    public void addBack() {
+        list.addBack(42);
+    }
+}
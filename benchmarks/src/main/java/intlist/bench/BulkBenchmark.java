@@ -0,0 +1,92 @@
+package intlist.bench;
+
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of loading and exporting a whole list of size values,
+ * one value at a time versus through the bulk methods, and of filtering
+ * a loaded list in one removeIf pass (subtract buildWithAddAll for the
+ * cost of the filter alone).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkBenchmark {
+
+    @Param
+    public Implementation implementation;
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private int[] values;
+    private IntList full;
+
+    @Setup
+    public void setUp() {
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        full = implementation.create();
+        full.addAll(values);
+    }
+
+    // the lists the build benchmarks create are released in the benchmark itself
+    @TearDown
+    public void tearDown() {
+        Implementation.release(full);
+    }
+
+    @Benchmark
+    public int buildWithAddBack() {
+        IntList list = implementation.create();
+        for (int value : values) {
+            list.addBack(value);
+        }
+        int size = list.size();                 // read before the list is released
+        Implementation.release(list);
+        return size;
+    }
+
+    @Benchmark
+    public int buildWithAddAll() {
+        IntList list = implementation.create();
+        list.addAll(values);
+        int size = list.size();                 // read before the list is released
+        Implementation.release(list);
+        return size;
+    }
+
+    @Benchmark
+    public int[] toArray() {
+        return full.toArray();
+    }
+
+    @Benchmark
+    public int buildAndRemoveIf() {
+        IntList list = implementation.create();
+        list.addAll(values);
+        list.removeIf(value -> (value & 1) != 0);
+        int size = list.size();                 // read before the list is released
+        Implementation.release(list);
+        return size;
+    }
+}
@@ -0,0 +1,66 @@
+package intlist.bench;
+
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a list that stays at a steady size while values come
+ * and go: one value added at the back and one removed at the front per
+ * operation, plus one insert and one remove near the front every 16th.
+ * Run with the gc profiler to compare gc.alloc.rate.norm, which is 0 for
+ * a list that reuses its storage.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChurnBenchmark {
+
+    @Param({"LINKED", "ARRAY_LINKED", "ARRAY_DEQUE"})
+    public Implementation implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private IntList list;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        list = implementation.create();
+        for (int i = 0; i < size; i++) {
+            list.addBack(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Implementation.release(list);
+    }
+
+    @Benchmark
+    public void churn() {
+        int value = counter++;
+        list.addBack(value);
+        list.removeFront();
+        if ((value & 15) == 0) {
+            list.add(8, value);
+            list.remove(16);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package intlist.bench;
+
+import intlist.ArrayIntList;
+import intlist.IntList;
+import intlist.IntListCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of shipping a list of size random values: the binary format
+ * of IntListCodec (with and without checksums) against toString(), the
+ * text form. The channels only count or hand out bytes in memory, so no
+ * real I/O is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"ARRAY", "LINKED"})
+    public Implementation implementation;
+
+    @Param({"1000000"})
+    public int size;
+
+    private IntList list;
+    private ByteBuffer encoded;
+
+    // a channel that drops everything written to it
+    private static final class NullChannel implements WritableByteChannel {
+        long written;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int count = source.remaining();
+            source.position(source.limit());
+            written += count;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // a channel that hands out the bytes of a buffer
+    private static final class BufferChannel implements ReadableByteChannel {
+        private final ByteBuffer source;
+
+        BufferChannel(ByteBuffer source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read(ByteBuffer target) {
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(source.remaining(), target.remaining());
+            ByteBuffer slice = source.slice();
+            slice.limit(count);
+            target.put(slice);
+            source.position(source.position() + count);
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        list = implementation.create();
+        list.addAll(new Random(42).ints(size).toArray());
+        ByteBuffer all = ByteBuffer.allocateDirect(size * 4 + 4096);
+        list.writeTo(new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer source) {
+                int count = source.remaining();
+                all.put(source);
+                return count;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        all.flip();
+        encoded = all;
+    }
+
+    @TearDown
+    public void tearDown() {
+        Implementation.release(list);
+    }
+
+    @Benchmark
+    public long writeBinary() throws IOException {
+        NullChannel channel = new NullChannel();
+        IntListCodec.write(list, channel, false);
+        return channel.written;
+    }
+
+    @Benchmark
+    public long writeBinaryChecksummed() throws IOException {
+        NullChannel channel = new NullChannel();
+        list.writeTo(channel);
+        return channel.written;
+    }
+
+    @Benchmark
+    public long writeText() {
+        return list.toString().getBytes(StandardCharsets.US_ASCII).length;
+    }
+
+    @Benchmark
+    public IntList readBinaryChecksummed() throws IOException {
+        ArrayIntList copy = new ArrayIntList();
+        copy.readFrom(new BufferChannel(encoded.duplicate()));
+        return copy;
+    }
+}
@@ -0,0 +1,63 @@
+package intlist.bench;
+
+import intlist.ArrayDequeIntList;
+import intlist.ArrayIntList;
+import intlist.ArrayLinkedIntList;
+import intlist.CompressedIntList;
+import intlist.ConcurrentIntList;
+import intlist.IntList;
+import intlist.LinkedIntList;
+import intlist.OffHeapIntList;
+import intlist.UnrolledIntList;
+
+import java.util.function.Supplier;
+
+/**
+ * Every IntList implementation the benchmarks run against.
+ *
+ * The benchmarks take their implementation as an enum @Param with no
+ * values listed, so JMH runs every constant here. Adding a new IntList
+ * to the comparison only takes a new constant.
+ */
+public enum Implementation {
+    ARRAY(ArrayIntList::new),
+    LINKED(LinkedIntList::new),
+    ARRAY_DEQUE(ArrayDequeIntList::new),
+    UNROLLED(UnrolledIntList::new),
+    OFF_HEAP(OffHeapIntList::new),
+    CONCURRENT(ConcurrentIntList::new),
+    COMPRESSED(CompressedIntList::new),
+    ARRAY_LINKED(ArrayLinkedIntList::new);
+
+    private final Supplier<IntList> factory;
+
+    Implementation(Supplier<IntList> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a new, empty list of this implementation.
+     * @return a new, empty list
+     */
+    public IntList create() {
+        return factory.get();
+    }
+
+    /**
+     * Closes a list that holds memory outside the heap (OFF_HEAP owns a
+     * direct segment of several MB); does nothing for the others. The
+     * benchmarks call this in a @TearDown instead of leaving the memory to
+     * the GC cleaner, which may force System.gc() when direct memory runs
+     * low and would skew both the timings and -prof gc.
+     * @param list a list made by create(), or null
+     */
+    public static void release(IntList list) {
+        if (list instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) list).close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not close " + list.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package intlist.bench;
+
+import intlist.IntList;
+import intlist.IntListIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of code written against the IntList interface that walks a
+ * whole list by index (for (i...) get(i)) or changes every value through
+ * a listIterator(). Both should be linear on every implementation; on
+ * LinkedIntList that relies on the finger and on the node cursor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexedLoopBenchmark {
+
+    @Param({"ARRAY", "LINKED"})
+    public Implementation implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private IntList list;
+
+    @Setup
+    public void setUp() {
+        list = implementation.create();
+        for (int i = 0; i < size; i++) {
+            list.addBack(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Implementation.release(list);
+    }
+
+    @Benchmark
+    public long getLoop() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void setThroughCursor() {
+        IntListIterator cursor = list.listIterator();
+        while (cursor.hasNext()) {
+            cursor.set(cursor.nextInt() + 1);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package intlist.bench;
+
+import intlist.IntIterator;
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the single-value IntList operations on a list that
+ * already holds size values.
+ *
+ * Every mutating benchmark undoes its own change (add then remove), so
+ * the list keeps the same size for the whole measurement and each score
+ * is the cost of the pair at that size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntListBenchmark {
+
+    // number of precomputed random indices/values, a power of two
+    private static final int SAMPLES = 1024;
+
+    @Param
+    public Implementation implementation;
+
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    private IntList list;
+    private int[] indices;          // random valid indices
+    private int[] values;           // random values that are in the list
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        list = implementation.create();
+        for (int i = 0; i < size; i++) {
+            list.addBack(i);
+        }
+
+        Random random = new Random(42);
+        indices = new int[SAMPLES];
+        values = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            indices[i] = random.nextInt(size);
+            values[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextSample() {
+        cursor = (cursor + 1) & (SAMPLES - 1);
+        return cursor;
+    }
+
+    @TearDown
+    public void tearDown() {
+        Implementation.release(list);
+    }
+
+    @Benchmark
+    public void addFront() {
+        list.addFront(-1);
+        list.removeFront();
+    }
+
+    @Benchmark
+    public void addBack() {
+        list.addBack(-1);
+        list.removeBack();
+    }
+
+    @Benchmark
+    public void addAtIndex() {
+        int index = indices[nextSample()];
+        list.add(index, -1);
+        list.remove(index);
+    }
+
+    // queue-style mix: push at the back, pop at the front
+    @Benchmark
+    public void addBackRemoveFront() {
+        list.addBack(list.get(0));
+        list.removeFront();
+    }
+
+    @Benchmark
+    public int get() {
+        return list.get(indices[nextSample()]);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(values[nextSample()]);
+    }
+
+    // a value that is never in the list, so the whole list is scanned
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(-1);
+    }
+
+    @Benchmark
+    public void forEachInt(Blackhole blackhole) {
+        list.forEachInt(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterateWithIntIterator(Blackhole blackhole) {
+        IntIterator itr = list.iterator();
+        while (itr.hasNext()) {
+            blackhole.consume(itr.nextInt());
+        }
+    }
+
+    // the boxed Iterable<Integer> path, for comparison with the two above
+    @Benchmark
+    public void iterateBoxed(Blackhole blackhole) {
+        for (Integer value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    // generic code looping over indices, quadratic on a linked list
+    @Benchmark
+    public long getInLoop() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+}
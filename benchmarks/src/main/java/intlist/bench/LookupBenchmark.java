@@ -0,0 +1,99 @@
+package intlist.bench;
+
+import intlist.ArrayIntList;
+import intlist.SortedIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of indexOf on lists of distinct values, comparing the linear
+ * scan of ArrayIntList, the hash index of ArrayIntList and the binary search
+ * of SortedIntList. Half of the looked-up values are missing from the list.
+ *
+ * mutateThenLookup changes the list before every lookup, so it measures
+ * the worst case for the hash index, which then rebuilds on every lookup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    @Param({"16", "64", "256", "1024", "65536"})
+    public int size;
+
+    private ArrayIntList scanned;
+    private ArrayIntList indexed;
+    private SortedIntList sorted;
+    private int[] probes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        scanned = new ArrayIntList();
+        indexed = new ArrayIntList();
+        indexed.setIndexed(true);
+        sorted = new SortedIntList();
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            int value = i * 2;                  // even values only
+            scanned.addBack(value);
+            indexed.addBack(value);
+            sorted.addBack(value);
+        }
+        probes = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            probes[i] = random.nextInt(size * 2);   // odd probes are missing
+        }
+    }
+
+    private int nextProbe() {
+        cursor = (cursor + 1) & (SAMPLES - 1);
+        return probes[cursor];
+    }
+
+    @Benchmark
+    public int scan() {
+        return scanned.indexOf(nextProbe());
+    }
+
+    @Benchmark
+    public int hashIndex() {
+        return indexed.indexOf(nextProbe());
+    }
+
+    @Benchmark
+    public int binarySearch() {
+        return sorted.indexOf(nextProbe());
+    }
+
+    @Benchmark
+    public int mutateThenLookupScan() {
+        scanned.removeBack();
+        scanned.addBack((size - 1) * 2);
+        return scanned.indexOf(nextProbe());
+    }
+
+    @Benchmark
+    public int mutateThenLookupHashIndex() {
+        indexed.removeBack();
+        indexed.addBack((size - 1) * 2);
+        return indexed.indexOf(nextProbe());
+    }
+}
@@ -0,0 +1,68 @@
+package intlist.bench;
+
+import intlist.ArrayIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of full scans over an ArrayIntList: searches for a value
+ * that is not in the list, counting, and comparing two equal lists.
+ *
+ * Run once as is (SIMD kernels) and once with -Pjmh.noVector
+ * (scalar fallback) to compare the two.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScanBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private ArrayIntList list;
+    private ArrayIntList copy;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayIntList(size);
+        copy = new ArrayIntList(size);
+        for (int i = 0; i < size; i++) {
+            list.addBack(i & 0xFF);
+            copy.addBack(i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public int indexOfMissing() {
+        return list.indexOf(-1);
+    }
+
+    @Benchmark
+    public int lastIndexOfMissing() {
+        return list.lastIndexOf(-1);
+    }
+
+    @Benchmark
+    public int count() {
+        return list.count(7);
+    }
+
+    @Benchmark
+    public boolean equalLists() {
+        return list.equals(copy);
+    }
+}
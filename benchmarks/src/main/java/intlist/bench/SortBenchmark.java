@@ -0,0 +1,90 @@
+package intlist.bench;
+
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to sort a list of size random values: in place with sort() and
+ * parallelSort(), against copying the values out through the boxed
+ * iterator, sorting them with Collections.sort and rebuilding the list.
+ *
+ * The list is refilled before every call (Level.Invocation), which is
+ * fine here because one sort takes far longer than the setup overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"ARRAY", "LINKED", "ARRAY_LINKED"})
+    public Implementation implementation;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private int[] values;
+    private IntList list;
+
+    @Setup(Level.Trial)
+    public void createValues() {
+        values = new Random(42).ints(size).toArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        list = implementation.create();
+        list.addAll(values);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        Implementation.release(list);
+    }
+
+    @Benchmark
+    public IntList sort() {
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public IntList parallelSort() {
+        list.parallelSort();
+        return list;
+    }
+
+    @Benchmark
+    public IntList copyOutAndRebuild() {
+        List<Integer> boxed = new ArrayList<>(list.size());
+        for (Integer value : list) {
+            boxed.add(value);
+        }
+        Collections.sort(boxed);
+        list.clear();
+        for (Integer value : boxed) {
+            list.addBack(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,108 @@
+package intlist.bench;
+
+import intlist.ArrayIntList;
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text export and import of a list of size random values: toString()
+ * against writeText to a Writer, and splitting the text into Strings for
+ * Integer.parseInt against IntList.parse. The Writer only counts chars,
+ * so no real I/O is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextBenchmark {
+
+    @Param({"ARRAY", "LINKED"})
+    public Implementation implementation;
+
+    @Param({"1000000"})
+    public int size;
+
+    private IntList list;
+    private String text;
+
+    // a writer that drops everything written to it
+    private static final class NullWriter extends Writer {
+        long written;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            written += length;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        list = implementation.create();
+        list.addAll(new Random(42).ints(size).toArray());
+        text = list.toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Implementation.release(list);
+    }
+
+    @Benchmark
+    public long toStringText() {
+        return list.toString().length();
+    }
+
+    @Benchmark
+    public long writeText() throws IOException {
+        NullWriter out = new NullWriter();
+        list.writeText(out);
+        return out.written;
+    }
+
+    @Benchmark
+    public IntList parseSplit() {
+        String[] tokens = text.substring(1, text.length() - 1).split(", ");
+        ArrayIntList result = new ArrayIntList(tokens.length);
+        for (String token : tokens) {
+            result.addBack(Integer.parseInt(token));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntList parseString() {
+        return IntList.parse(text);
+    }
+
+    @Benchmark
+    public IntList parseReader() throws IOException {
+        return IntList.parse(new StringReader(text));
+    }
+}
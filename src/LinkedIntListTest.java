@@ -1,58 +0,0 @@
-import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.*;
-
-class LinkedIntListTest {
-
-    @Test
-    void addFront() {
-    }
-
-    @Test
-    void addBack() {
-    }
-
-    @Test
-    void add() {
-    }
-
-    @Test
-    void removeFront() {
-    }
-
-    @Test
-    void removeBack() {
-    }
-
-    @Test
-    void remove() {
-    }
-
-    @Test
-    void get() {
-    }
-
-    @Test
-    void contains() {
-    }
-
-    @Test
-    void indexOf() {
-    }
-
-    @Test
-    void isEmpty() {
-    }
-
-    @Test
-    void size() {
-    }
-
-    @Test
-    void clear() {
-    }
-
-    @Test
-    void iterator() {
-    }
-}
\ No newline at end of file
@@ -0,0 +1,456 @@
+package intlist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An IntList that many threads can append to at once without locking,
+ * for ingestion paths.
+ *
+ * Each append first reserves its slot (or a block of slots for addAll) with a
+ * CAS on the reservation cursor, so producers never wait for each other while
+ * they write. The values live in fixed-size segments that are allocated the
+ * first time a slot in them is reserved, so growing never copies existing data.
+ *
+ * A value becomes visible once it is published. Every slot has a ready bit
+ * that is set after its value is written; the published cursor is then moved
+ * over the run of ready slots. size() is that cursor, so readers always see
+ * a prefix of the list with every value in it written: get(index) of any
+ * index below size() returns the final value, without locking or retrying.
+ * A producer that has reserved a slot but not written it yet holds back the
+ * slots after it until it is done.
+ *
+ * Only appends are supported. addFront, add(index, value), the removes and
+ * clear throw UnsupportedOperationException, because published values never
+ * move or change.
+ *
+ * Installing a new segment takes a short lock, once per segment's worth of
+ * appends; everything else is lock-free, and get is wait-free.
+ */
+public class AppendOnlyIntList implements IntList {
+    // Internal (private) representation
+    private volatile Segment[] table;   // the segments; a slot is null until first reserved
+    private volatile int reserved;      // slots handed out to producers
+    private volatile int published;     // every slot below this is written and visible
+
+    private final int shift;            // log2 of the values per segment
+    private final int mask;             // values per segment - 1
+
+    private final Object tableLock = new Object();     // guards growing the table and installing segments
+
+    private final static int DEFAULT_SEGMENT_CAPACITY = 1 << 14;
+    private final static int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final VarHandle RESERVED;
+    private static final VarHandle PUBLISHED;
+    private static final VarHandle SEGMENTS = MethodHandles.arrayElementVarHandle(Segment[].class);
+    private static final VarHandle READY_BITS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            RESERVED = lookup.findVarHandle(AppendOnlyIntList.class, "reserved", int.class);
+            PUBLISHED = lookup.findVarHandle(AppendOnlyIntList.class, "published", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public AppendOnlyIntList() {
+        this(DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose segments each hold segmentCapacity values.
+     *
+     * @param segmentCapacity values per segment, a power of two in [64, 2^24]
+     * @throws IllegalArgumentException if segmentCapacity is not a power of two
+     * or is out of range
+     */
+    public AppendOnlyIntList(int segmentCapacity) {
+        if (segmentCapacity < 64 || segmentCapacity > (1 << 24)
+                || Integer.bitCount(segmentCapacity) != 1) {
+            throw new IllegalArgumentException("Segment capacity must be a power of two in [64, 2^24]: "
+                    + segmentCapacity);
+        }
+        shift = Integer.numberOfTrailingZeros(segmentCapacity);
+        mask = segmentCapacity - 1;
+        table = new Segment[4];
+    }
+
+    // nested or inner class (helper class)
+    private static final class Segment {
+        final int[] values;
+        final long[] ready;             // one bit per slot, set once the value is written
+
+        Segment(int capacity) {
+            values = new int[capacity];
+            ready = new long[capacity >>> 6];
+        }
+    }
+
+    // reserves count consecutive slots and returns the first one
+    private int reserve(int count) {
+        while (true) {
+            int current = reserved;
+            if ((long) current + count > MAX_SIZE) {
+                throw new OutOfMemoryError("Required size too large: " + ((long) current + count));
+            }
+            if (RESERVED.compareAndSet(this, current, current + count)) {
+                return current;
+            }
+        }
+    }
+
+    // returns the installed segment number s, or null if it is not there yet
+    private Segment installedSegment(int s) {
+        Segment[] segments = table;
+        return s < segments.length ? (Segment) SEGMENTS.getAcquire(segments, s) : null;
+    }
+
+    // returns segment number s, installing it if no producer has yet
+    private Segment segment(int s) {
+        Segment segment = installedSegment(s);
+        if (segment != null) {
+            return segment;
+        }
+        synchronized (tableLock) {
+            Segment[] segments = table;
+            if (s >= segments.length) {
+                segments = Arrays.copyOf(segments, Math.max(segments.length * 2, s + 1));
+            }
+            segment = segments[s];
+            if (segment == null) {
+                segment = new Segment(mask + 1);
+                SEGMENTS.setRelease(segments, s, segment);
+            }
+            table = segments;
+            return segment;
+        }
+    }
+
+    // writes value into a reserved slot and sets its ready bit
+    private void write(int index, int value) {
+        Segment segment = segment(index >>> shift);
+        int offset = index & mask;
+        segment.values[offset] = value;
+        READY_BITS.getAndBitwiseOrRelease(segment.ready, offset >>> 6, 1L << offset);
+    }
+
+    /*
+     * Moves the published cursor over every ready slot after it and returns
+     * the new cursor. Any thread may call this; producers call it after each
+     * write and readers call it from size(). Whole runs of ready slots within
+     * one 64-bit word of ready bits are published with one CAS.
+     */
+    private int publish() {
+        int current = published;
+        while (current < reserved) {
+            Segment segment = installedSegment(current >>> shift);
+            if (segment == null) {
+                break;
+            }
+            int offset = current & mask;
+            long word = (long) READY_BITS.getAcquire(segment.ready, offset >>> 6);
+            int run = Long.numberOfTrailingZeros(~(word >>> offset));
+            if (run == 0) {
+                break;          // the next slot is reserved but not written yet
+            }
+            if (PUBLISHED.compareAndSet(this, current, current + run)) {
+                current += run;
+            } else {
+                current = published;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list.
+     * Safe to call from any number of threads at once.
+     *
+     * Constant time - O(1), one CAS to reserve the slot
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        write(reserve(1), value);
+        publish();
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     * The values end up next to each other even when other threads append
+     * at the same time, and they are reserved with a single CAS.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        if (values.length == 0) {
+            return;
+        }
+        int first = reserve(values.length);
+        int copied = 0;
+        while (copied < values.length) {
+            int index = first + copied;
+            Segment segment = segment(index >>> shift);
+            int offset = index & mask;
+            int count = Math.min(values.length - copied, mask + 1 - offset);
+            System.arraycopy(values, copied, segment.values, offset, count);
+            markReady(segment, offset, count);
+            copied += count;
+        }
+        publish();
+    }
+
+    // sets the ready bits of count slots starting at offset, all in one segment
+    private static void markReady(Segment segment, int offset, int count) {
+        int end = offset + count;
+        while (offset < end) {
+            int bits = Math.min(64 - (offset & 63), end - offset);
+            long word = (bits == 64 ? -1L : ((1L << bits) - 1)) << offset;
+            READY_BITS.getAndBitwiseOrRelease(segment.ready, offset >>> 6, word);
+            offset += bits;
+        }
+    }
+
+    /**
+     * Not supported, values can only be appended.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addFront(int value) {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Not supported, values can only be appended.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, int value) {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Not supported, values can only be appended.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Not supported, values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeFront() {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Not supported, values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeBack() {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Not supported, values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int remove(int index) {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Not supported, values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Not supported, values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("AppendOnlyIntList only supports appends");
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * Constant time - O(1), wait-free for indices below size()
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is not published yet
+     */
+    @Override
+    public int get(int index) {
+        int currentSize = published;
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + currentSize);
+        }
+        return table[index >>> shift].values[index & mask];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * among the published values, or -1 if there is none.
+     *
+     * Linear time - O(n), one scan per segment
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int currentSize = published;
+        Segment[] segments = table;
+        for (int s = 0, base = 0; base < currentSize; s++, base += mask + 1) {
+            int found = ScanKernels.indexOf(segments[s].values, 0, Math.min(currentSize - base, mask + 1), value);
+            if (found != -1) {
+                return base + found;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if no value has been published yet.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of published values. Every index below the
+     * returned size can be read with get.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return publish();
+    }
+
+    /**
+     * Returns a new array holding the published values, in order.
+     *
+     * @return an array holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        int currentSize = size();
+        Segment[] segments = table;
+        int[] result = new int[currentSize];
+        for (int s = 0, base = 0; base < currentSize; s++, base += mask + 1) {
+            System.arraycopy(segments[s].values, 0, result, base, Math.min(currentSize - base, mask + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the values published when it is created.
+     * Values appended afterwards are not seen.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new AppendOnlyIterator(size());
+    }
+
+    /**
+     * Returns a spliterator over the values published when it is created,
+     * so that its size stays exact while other threads keep appending.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        int end = size();
+        return Spliterators.spliterator(new AppendOnlyIterator(end), end,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // nested or inner class (helper class)
+    public class AppendOnlyIterator implements IntIterator {
+        private final int end;
+        private int currentPosition;
+
+        AppendOnlyIterator(int end) {
+            this.end = end;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < end;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int index = currentPosition++;
+            return table[index >>> shift].values[index & mask];
+        }
+    }
+
+}       // end of AppendOnlyIntList
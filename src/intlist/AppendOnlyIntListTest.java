@@ -0,0 +1,97 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppendOnlyIntListTest {
+
+    @Test
+    void appendsAcrossSegments() {
+        AppendOnlyIntList theList = new AppendOnlyIntList(64);
+        for (int i = 0; i < 100; i++) {
+            theList.addBack(i);
+        }
+        theList.addAll(new int[] {100, 101, 102});
+        int[] block = new int[200];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = 103 + i;
+        }
+        theList.addAll(block);              // spans several segments
+
+        assertEquals(303, theList.size());
+        for (int i = 0; i < 303; i++) {
+            assertEquals(i, theList.get(i));
+        }
+        assertEquals(250, theList.indexOf(250));
+        assertFalse(theList.contains(303));
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.get(303));
+        assertEquals(45753, theList.stream().sum());
+    }
+
+    @Test
+    void onlyAppendsAreSupported() {
+        AppendOnlyIntList theList = new AppendOnlyIntList();
+        theList.addBack(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> theList.addFront(0));
+        assertThrows(UnsupportedOperationException.class, () -> theList.add(0, 0));
+        assertThrows(UnsupportedOperationException.class, theList::removeBack);
+        assertThrows(UnsupportedOperationException.class, () -> theList.remove(0));
+        assertThrows(UnsupportedOperationException.class, theList::clear);
+        assertEquals("[1]", theList.toString());
+    }
+
+    @Test
+    void concurrentProducersLoseNothing() throws InterruptedException {
+        AppendOnlyIntList theList = new AppendOnlyIntList(64);
+        int threads = 8;
+        int perThread = 20_000;
+        AtomicBoolean failed = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int producer = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // values are 1-based, so reading a 0 would mean an unwritten slot
+                for (int i = 1; i <= perThread; i++) {
+                    int value = producer * perThread + i;
+                    if (i % 100 == 0 && i < perThread) {
+                        theList.addAll(new int[] {value, value + 1});
+                        i++;
+                    } else {
+                        theList.addBack(value);
+                    }
+                    int size = theList.size();
+                    if (size > 0 && theList.get(size - 1) == 0) {
+                        failed.set(true);
+                    }
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : producers) {
+            thread.join();
+        }
+
+        assertFalse(failed.get());
+        assertEquals(threads * perThread, theList.size());
+        boolean[] seen = new boolean[threads * perThread + 1];
+        theList.forEachInt(value -> seen[value] = true);
+        for (int i = 1; i < seen.length; i++) {
+            assertTrue(seen[i], "missing " + i);
+        }
+    }
+}
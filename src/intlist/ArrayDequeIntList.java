@@ -0,0 +1,549 @@
+package intlist;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList backed by a circular buffer (ring buffer).
+ *
+ * The values do not have to start at buffer[0]. Instead, head holds the
+ * position of the first value and tail the position just past the last one,
+ * and both indices wrap around the end of the buffer. That makes adding and
+ * removing at either end O(1) (amortized, because of resizing), so the list
+ * works well as a queue or a deque.
+ *
+ * The capacity is always a power of two, so wrapping an index around the
+ * buffer is a bitwise and with (buffer.length - 1) instead of a modulo.
+ */
+public class ArrayDequeIntList implements IntList {
+    // Internal (private) representation
+    private int[] buffer;
+    private int head;                   // position of the value at index 0
+    private int tail;                   // position one past the last value
+    private int size;                   // number of "spots used" in the buffer
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    public ArrayDequeIntList() {
+        buffer = new int[INITIAL_CAPACITY];
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    // maps an index in the list to a position in the buffer
+    private int position(int index) {
+        return (head + index) & (buffer.length - 1);
+    }
+
+    private void resize(int newSize) {
+        // create a new array that is of the new size
+        int[] temp = new int[newSize];
+
+        // copy over values from the existing buffer, unwrapping them
+        // so the front of the list lands at temp[0]
+        int firstPart = Math.min(size, buffer.length - head);
+        System.arraycopy(buffer, head, temp, 0, firstPart);
+        System.arraycopy(buffer, 0, temp, firstPart, size - firstPart);
+
+        // make the switchover
+        buffer = temp;
+        head = 0;
+        tail = size;
+    }
+
+    private void growIfFull() {
+        if (size == buffer.length) {
+            ensureRoomFor(1);
+        }
+    }
+
+    // makes sure there is room for count more values, growing at most once
+    private void ensureRoomFor(int count) {
+        long needed = (long) size + count;
+        if (needed > buffer.length) {
+            if (needed > (1 << 30)) {
+                throw new OutOfMemoryError("List is too large to grow: " + needed);
+            }
+            // round up to the next power of two
+            resize(Integer.highestOneBit((int) needed - 1) << 1);
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * Constant time - O(1) (amortized)
+     * because we only move head back by one spot,
+     * nothing in the buffer is shifted
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        growIfFull();
+        head = (head - 1) & (buffer.length - 1);
+        buffer[head] = value;
+        size++;
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * Constant time - O(1) (amortized)
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        growIfFull();
+        buffer[tail] = value;
+        tail = (tail + 1) & (buffer.length - 1);
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * Only the shorter side of the list is moved: values in front of the
+     * index are shifted one spot to the left if there are fewer of them,
+     * otherwise the values from the index on are shifted one spot to the right.
+     * Linear time - O(min(index, size - index))
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        growIfFull();
+        int mask = buffer.length - 1;
+        if (index < size / 2) {
+            // open a spot in front of head, then slide the first
+            // index values one spot to the left
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                buffer[(head + i) & mask] = buffer[(head + i + 1) & mask];
+            }
+        } else {
+            // slide the values from index on one spot to the right
+            for (int i = size; i > index; i--) {
+                buffer[(head + i) & mask] = buffer[(head + i - 1) & mask];
+            }
+            tail = (tail + 1) & mask;
+        }
+        buffer[(head + index) & mask] = value;
+        size++;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     *
+     * Constant time - O(1), head just moves forward one spot
+     */
+    @Override
+    public void removeFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        buffer[head] = 0;  // clear the old front
+        head = (head + 1) & (buffer.length - 1);
+        size--;
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        tail = (tail - 1) & (buffer.length - 1);
+        buffer[tail] = 0;  // clear the old back
+        size--;
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * Like add(index, value), only the shorter side of the list is moved.
+     * Linear time - O(min(index, size - index))
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int mask = buffer.length - 1;
+        int removedValue = buffer[(head + index) & mask];
+        if (index < size / 2) {
+            // slide the values in front of index one spot to the right
+            for (int i = index; i > 0; i--) {
+                buffer[(head + i) & mask] = buffer[(head + i - 1) & mask];
+            }
+            buffer[head] = 0;
+            head = (head + 1) & mask;
+        } else {
+            // slide the values after index one spot to the left
+            for (int i = index; i < size - 1; i++) {
+                buffer[(head + i) & mask] = buffer[(head + i + 1) & mask];
+            }
+            tail = (tail - 1) & mask;
+            buffer[tail] = 0;
+        }
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return buffer[position(index)];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        // the values are in at most two contiguous runs: head to the
+        // end of the buffer, then the start of the buffer up to tail
+        int firstPart = Math.min(size, buffer.length - head);
+        int found = ScanKernels.indexOf(buffer, head, head + firstPart, value);
+        if (found != -1) {
+            return found - head;
+        }
+        found = ScanKernels.indexOf(buffer, 0, size - firstPart, value);
+        return (found == -1) ? -1 : firstPart + found;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * Grows the buffer at most once and copies the values in with at most
+     * two System.arraycopy calls (one more if the values wrap around).
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        ensureRoomFor(values.length);
+        int firstPart = Math.min(values.length, buffer.length - tail);
+        System.arraycopy(values, 0, buffer, tail, firstPart);
+        System.arraycopy(values, firstPart, buffer, 0, values.length - firstPart);
+        tail = (tail + values.length) & (buffer.length - 1);
+        size += values.length;
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right by values.length.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int count = values.length;
+        ensureRoomFor(count);
+        int mask = buffer.length - 1;
+        if (index < size / 2) {
+            // move head back by count, then slide the first index values left
+            head = (head - count) & mask;
+            for (int i = 0; i < index; i++) {
+                buffer[(head + i) & mask] = buffer[(head + i + count) & mask];
+            }
+        } else {
+            // slide the values from index on right by count
+            for (int i = size - 1; i >= index; i--) {
+                buffer[(head + i + count) & mask] = buffer[(head + i) & mask];
+            }
+            tail = (tail + count) & mask;
+        }
+        for (int i = 0; i < count; i++) {
+            buffer[(head + index + i) & mask] = values[i];
+        }
+        size += count;
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        int firstPart = Math.min(size, buffer.length - head);
+        System.arraycopy(buffer, head, result, 0, firstPart);
+        System.arraycopy(buffer, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive). Shifts any subsequent values to the left.
+     *
+     * Only the shorter side of the list is moved, and only once.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex
+                    + ", Size: " + size);
+        }
+        int count = toIndex - fromIndex;
+        int mask = buffer.length - 1;
+        if (fromIndex < size - toIndex) {
+            // slide the values in front of fromIndex right by count
+            for (int i = fromIndex - 1; i >= 0; i--) {
+                buffer[(head + i + count) & mask] = buffer[(head + i) & mask];
+            }
+            for (int i = 0; i < count; i++) {
+                buffer[(head + i) & mask] = 0;
+            }
+            head = (head + count) & mask;
+        } else {
+            // slide the values from toIndex on left by count
+            for (int i = toIndex; i < size; i++) {
+                buffer[(head + i - count) & mask] = buffer[(head + i) & mask];
+            }
+            for (int i = size - count; i < size; i++) {
+                buffer[(head + i) & mask] = 0;
+            }
+            tail = (tail - count) & mask;
+        }
+        size -= count;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, from front to back.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new DequeIterator();
+    }
+
+    /**
+     * Returns a spliterator over the values in this list, for streams.
+     * It splits by index range, in halves, so parallel streams divide the
+     * work evenly even when the values wrap around the end of the buffer.
+     * The list must not be changed while the spliterator is in use.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new DequeSpliterator(0, size);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int mask = buffer.length - 1;
+        for (int i = 0; i < size; i++) {
+            action.accept(buffer[(head + i) & mask]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        sb.append(buffer[head]);
+        for (int i = 1; i < size; i++) {
+            sb.append(", ").append(buffer[position(i)]);
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class DequeIterator implements IntIterator {
+        private int currentPosition;        // index in the list, not the buffer
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < size;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer[position(currentPosition++)];
+        }
+    }
+
+    // splits the list by index range [index, fence)
+    private class DequeSpliterator implements Spliterator.OfInt {
+        private int index;                  // next index in the list to hand out
+        private final int fence;            // one past the last index
+
+        DequeSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            // the first half goes to the new spliterator, this one keeps the rest
+            DequeSpliterator prefix = new DequeSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(buffer[position(index++)]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int[] values = buffer;
+            int mask = values.length - 1;
+            for (int i = index; i < fence; i++) {
+                action.accept(values[(head + i) & mask]);
+            }
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+}       // end of ArrayDequeIntList
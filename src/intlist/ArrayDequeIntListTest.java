@@ -0,0 +1,238 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayDequeIntListTest {
+
+    @Test
+    void addFrontAndBack() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        theList.addBack(2);
+        theList.addBack(3);
+        theList.addFront(1);
+        theList.addFront(0);
+
+        assertEquals("[0, 1, 2, 3]", theList.toString());
+        assertEquals(4, theList.size());
+    }
+
+    @Test
+    void addFrontWithResize() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        for (int i = 0; i < 100; i++) {
+            theList.addFront(i);
+        }
+
+        assertEquals(100, theList.size());
+        assertEquals(99, theList.get(0));
+        assertEquals(0, theList.get(99));
+    }
+
+    @Test
+    void usedAsQueueWrapsAround() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        // push at the back, pop at the front many more times than the capacity
+        for (int i = 0; i < 1000; i++) {
+            theList.addBack(i);
+            theList.addBack(i);
+            theList.removeFront();
+        }
+
+        assertEquals(1000, theList.size());
+        assertEquals(500, theList.get(0));
+        assertEquals(999, theList.get(999));
+    }
+
+    @Test
+    void removeFromEmptyList() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+
+        assertThrows(NoSuchElementException.class, theList::removeFront);
+        assertThrows(NoSuchElementException.class, theList::removeBack);
+    }
+
+    @Test
+    void addAndRemoveAtIndexMatchArrayList() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        ArrayList<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                int index = random.nextInt(expected.size() + 1);
+                theList.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals((int) expected.remove(index), theList.remove(index));
+            }
+        }
+
+        assertEquals(expected.toString(), theList.toString());
+    }
+
+    @Test
+    void bulkOperationsMatchArrayList() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        ArrayList<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int round = 0; round < 300; round++) {
+            int[] values = new int[random.nextInt(20)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(1000);
+            }
+            int index = random.nextInt(expected.size() + 1);
+            switch (random.nextInt(4)) {
+                case 0:
+                    theList.addAll(values);
+                    for (int value : values) {
+                        expected.add(value);
+                    }
+                    break;
+                case 1:
+                    theList.addAll(index, values);
+                    for (int i = 0; i < values.length; i++) {
+                        expected.add(index + i, values[i]);
+                    }
+                    break;
+                case 2:
+                    int to = index + random.nextInt(expected.size() - index + 1);
+                    theList.removeRange(index, to);
+                    expected.subList(index, to).clear();
+                    break;
+                default:
+                    if (!expected.isEmpty()) {
+                        theList.removeFront();
+                        expected.remove(0);
+                    }
+                    theList.addFront(round);
+                    expected.add(0, round);
+            }
+        }
+
+        int[] array = theList.toArray();
+        assertEquals(expected.size(), array.length);
+        for (int i = 0; i < array.length; i++) {
+            assertEquals((int) expected.get(i), array[i]);
+        }
+    }
+
+    @Test
+    void addWithBadIndex() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.add(1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.get(0));
+    }
+
+    @Test
+    void indexOf() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        for (int i = 0; i < 10; i++) {
+            theList.addFront(i);
+        }
+
+        assertEquals(0, theList.indexOf(9));
+        assertEquals(9, theList.indexOf(0));
+        assertEquals(-1, theList.indexOf(42));
+        assertTrue(theList.contains(5));
+    }
+
+    @Test
+    void iterator() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        for (int i = 0; i < 20; i++) {
+            theList.addFront(i);
+        }
+
+        IntIterator itr = theList.iterator();
+        for (int i = 19; i >= 0; i--) {
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+    }
+
+    @Test
+    void clear() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        theList.addBack(1);
+        theList.addFront(0);
+        theList.clear();
+
+        assertTrue(theList.isEmpty());
+        assertEquals("[]", theList.toString());
+    }
+
+    @Test
+    void streamAcrossTheWrapPoint() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {      // fill from both ends so the values wrap
+            if (i % 2 == 0) {
+                theList.addBack(i);
+                expected.add(i);
+            } else {
+                theList.addFront(i);
+                expected.add(0, i);
+            }
+        }
+
+        Spliterator.OfInt all = theList.spliterator();
+        assertTrue(all.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator.OfInt firstHalf = all.trySplit();
+        assertEquals(5_000, firstHalf.estimateSize());
+        assertEquals(5_000, all.estimateSize());
+        int[] front = new int[1];
+        assertTrue(firstHalf.tryAdvance((int value) -> front[0] = value));
+        assertEquals((int) expected.get(0), front[0]);
+
+        int[] values = expected.stream().mapToInt(Integer::intValue).toArray();
+        assertArrayEquals(values, theList.stream().toArray());
+        assertArrayEquals(values, theList.parallelStream().toArray());
+        assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+                theList.parallelStream().asLongStream().sum());
+    }
+
+    @Test
+    void listIteratorFromInterface() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        theList.addAll(new int[] {2, 3});
+        theList.addFront(1);                    // wraps around the buffer
+
+        IntListIterator cursor = theList.listIterator();
+        while (cursor.hasNext()) {
+            int value = cursor.nextInt();
+            if (value == 2) {
+                cursor.remove();
+                cursor.add(20);
+                cursor.add(21);
+            } else {
+                cursor.set(-value);
+            }
+        }
+        assertEquals("[-1, 20, 21, -3]", theList.toString());
+        assertEquals(-3, cursor.previousInt());
+        assertEquals(3, cursor.nextIndex());
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.listIterator(5));
+    }
+
+    @Test
+    void sortThroughInterface() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        theList.addAll(new int[] {4, 2, 8});
+        theList.addFront(6);
+
+        theList.sort();
+        assertEquals("[2, 4, 6, 8]", theList.toString());
+        theList.sort((a, b) -> Integer.compare(a % 3, b % 3));      // stable
+        assertEquals("[6, 4, 2, 8]", theList.toString());
+    }
+}
@@ -0,0 +1,1012 @@
+package intlist;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+public class ArrayIntList implements IntList {
+    // Internal (private) representation
+    private int[] buffer;
+    private int size;                   // number of "spots used" in the buffer
+
+    private GrowthPolicy growthPolicy;  // how much to grow when full
+    private final int initialCapacity;  // never shrink below this
+    private boolean shrinkOnClear;      // release the buffer in clear()
+    private double lowWaterMark;        // shrink when size / capacity drops below this
+    private int shrinkThreshold;        // lowWaterMark * capacity, checked on removes
+
+    // optional hash index, see setIndexed()
+    private int[] indexTable;           // (position + 1) of the first occurrence of each value, 0 = empty; null if off
+    private int indexCount;             // number of distinct values in indexTable
+    private boolean indexStale;         // true when the buffer changed in a way indexTable does not reflect
+
+    private IntListMetrics metrics;     // optional usage counters, null if off; see setMetrics()
+
+    private final static int INITIAL_CAPACITY = 10;
+
+    // some VMs reserve a few header words in an array, so stay a bit below Integer.MAX_VALUE
+    private final static int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    // above this size the hash index table would not fit in an array, so lookups scan
+    private final static int MAX_INDEXED_SIZE = 1 << 28;
+
+    public ArrayIntList(){
+
+        this(INITIAL_CAPACITY);
+
+    }
+
+    /**
+     * Creates an empty list whose buffer already has room for
+     * initialCapacity values, so that many addBack calls never resize.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ArrayIntList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Creates an empty list with the given starting capacity
+     * that grows according to the given policy.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @param growthPolicy decides the new capacity when the buffer is full
+     * @throws IllegalArgumentException if initialCapacity is negative
+     * or greater than the maximum array size
+     * @throws NullPointerException if growthPolicy is null
+     */
+    public ArrayIntList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException();
+        }
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        buffer = new int[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * This is relatively slow operation
+     * Linear time - O(size) or O(n)
+     * because we have shift every item
+     * in the buffer to the right to make room
+     * at the front for the new item
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        // check if full
+        if (size == buffer.length) {
+            grow(size + 1);
+        }
+        // Open a spot at index 0 where value will be saved
+        // shift everything over to the right by 1 spot
+        System.arraycopy(buffer, 0, buffer, 1, size);
+        recordShift(size);
+
+        // put the value in position [0]
+        buffer[0] = value;
+
+        size++;
+        indexStale = true;
+    }
+
+    private void resize (int newSize) {
+        // create a new array that is of the new size, copy over the
+        // values from the existing buffer and make the switchover
+        int oldCapacity = buffer.length;
+        buffer = Arrays.copyOf(buffer, newSize);
+        shrinkThreshold = (int) (lowWaterMark * newSize);
+        if (metrics != null) {
+            metrics.recordResize(oldCapacity, newSize, Math.min(oldCapacity, newSize));
+        }
+
+    }
+
+    /*
+     * Grows the buffer so it holds at least minCapacity values, asking the
+     * growth policy how far to go. minCapacity is computed by callers as
+     * size + count, so a negative value means that sum overflowed an int.
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        int newCapacity = growthPolicy.newCapacity(buffer.length, minCapacity);
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        } else if (newCapacity > MAX_CAPACITY) {
+            newCapacity = MAX_CAPACITY;
+        }
+        resize(newCapacity);
+    }
+
+    private void recordShift(int distance) {
+        if (metrics != null) {
+            metrics.recordShift(distance);
+        }
+    }
+
+    /**
+     * Makes this list report its resizes (with the values they copy) and
+     * the values shifted by adds and removes into the given metrics, for
+     * example those of an InstrumentedIntList. Costs one null check per
+     * resize or shift when off.
+     *
+     * @param metrics the metrics to report to, or null to stop reporting
+     */
+    public void setMetrics(IntListMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null) {
+            metrics.recordCapacity(buffer.length);
+        }
+    }
+
+    /**
+     * @return the metrics this list reports to, or null if it reports to none
+     */
+    public IntListMetrics getMetrics() {
+        return metrics;
+    }
+
+    // halves the buffer (not below the initial capacity) once size falls below the low-water mark
+    private void shrinkIfSparse() {
+        if (size < shrinkThreshold && buffer.length > initialCapacity) {
+            resize(Math.max(Math.max(buffer.length / 2, size), initialCapacity));
+        }
+    }
+
+    /**
+     * Returns the number of values the buffer can hold before it has to grow.
+     *
+     * @return the length of the buffer
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Grows the buffer, if needed, so it can hold at least minCapacity values.
+     * Use this before adding many values one at a time to resize only once.
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws OutOfMemoryError if minCapacity is larger than the maximum array size
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the buffer to exactly size() spots, releasing the unused tail.
+     */
+    public void trimToSize() {
+        if (size < buffer.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Changes how the buffer grows from now on.
+     *
+     * @param growthPolicy decides the new capacity when the buffer is full
+     * @throws NullPointerException if growthPolicy is null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new NullPointerException();
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * When enabled, clear() replaces the buffer with a new one of the
+     * initial capacity instead of keeping a possibly huge empty buffer.
+     *
+     * @param shrinkOnClear true to release the buffer in clear()
+     */
+    public void setShrinkOnClear(boolean shrinkOnClear) {
+        this.shrinkOnClear = shrinkOnClear;
+    }
+
+    /**
+     * Sets a low-water mark: whenever a removal leaves fewer than
+     * lowWaterMark * capacity() values, the buffer is halved (but never below
+     * the initial capacity). Use a mark of at most 0.25 with the doubling policy
+     * so that alternating adds and removes near the boundary do not resize
+     * every time. A mark of 0 (the default) turns shrinking off.
+     *
+     * @param lowWaterMark fraction of the capacity in [0, 0.5)
+     * @throws IllegalArgumentException if lowWaterMark is outside [0, 0.5)
+     */
+    public void setLowWaterMark(double lowWaterMark) {
+        if (!(lowWaterMark >= 0.0 && lowWaterMark < 0.5)) {
+            throw new IllegalArgumentException("Low-water mark must be in [0, 0.5): " + lowWaterMark);
+        }
+        this.lowWaterMark = lowWaterMark;
+        shrinkThreshold = (int) (lowWaterMark * buffer.length);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        // Check to see if we still have room (capacity)
+       if (size == buffer.length){
+           // if the size matches  the capacity, then I know I'm "full"
+           // and I need to resize  (create a new larger buffer and copy
+           // the values over from the older smaller buffer)
+            grow(size + 1);
+       }
+        buffer[size] = value;
+        size++;
+        if (indexTable != null && !indexStale) {
+            indexAdd(size - 1);
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        if (size == buffer.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        recordShift(size - index);
+        buffer[index] = value;
+        size++;
+        indexStale = true;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        System.arraycopy(buffer, 1, buffer, 0, size - 1);
+        recordShift(size - 1);
+        buffer[size - 1] = 0;  // clear the last element
+        size--;
+        indexStale = true;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (size == 0) {
+            throw new IllegalStateException("already empty!");
+        }
+
+        size--;
+        buffer[size] = 0;
+        indexStale = true;
+        shrinkIfSparse();
+
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int removedValue = buffer[index];
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+        recordShift(size - index - 1);
+        buffer[size - 1] = 0; // Clear the last element
+        size--;
+        indexStale = true;
+        shrinkIfSparse();
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return buffer[index];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        if (indexTable != null && size <= MAX_INDEXED_SIZE) {
+            return indexLookup(value);
+        }
+        return ScanKernels.indexOf(buffer, 0, size, value);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        return ScanKernels.lastIndexOf(buffer, 0, size, value);
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of the value
+     */
+    @Override
+    public int count(int value) {
+        return ScanKernels.count(buffer, 0, size, value);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        indexStale = true;
+        if (shrinkOnClear && buffer.length > initialCapacity) {
+            buffer = new int[initialCapacity];
+            shrinkThreshold = (int) (lowWaterMark * initialCapacity);
+        }
+    }
+
+    // makes sure there is room for count more values, growing at most once
+    private void ensureRoomFor(int count) {
+        int needed = size + count;      // negative if the sum overflows
+        if (needed < 0 || needed > buffer.length) {
+            grow(needed);
+        }
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * Grows the buffer at most once and copies the values
+     * in with a single System.arraycopy
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        ensureRoomFor(values.length);
+        System.arraycopy(values, 0, buffer, size, values.length);
+        size += values.length;
+        indexAddRange(size - values.length);
+    }
+
+    /**
+     * Appends all the values of the specified list, in order, at the back
+     * of this list. The other list is not changed (it may be this list).
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other) {
+        int count = other.size();
+        ensureRoomFor(count);
+        if (other instanceof ArrayIntList) {
+            // copy straight from the other buffer (this also works when other == this)
+            System.arraycopy(((ArrayIntList) other).buffer, 0, buffer, size, count);
+        } else {
+            IntIterator itr = other.iterator();
+            for (int i = size; i < size + count; i++) {
+                buffer[i] = itr.nextInt();
+            }
+        }
+        size += count;
+        indexAddRange(size - count);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right by values.length.
+     *
+     * The values after index are shifted once, not once per inserted value.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureRoomFor(values.length);
+        System.arraycopy(buffer, index, buffer, index + values.length, size - index);
+        recordShift(size - index);
+        System.arraycopy(values, 0, buffer, index, values.length);
+        size += values.length;
+        indexStale = true;
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive). Shifts any subsequent values to the left.
+     *
+     * The values after toIndex are shifted once, not once per removed value.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex
+                    + ", Size: " + size);
+        }
+        System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+        recordShift(size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(buffer, newSize, size, 0);  // clear the old elements at the end
+        size = newSize;
+        indexStale = true;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Removes every value that satisfies the given predicate, keeping the
+     * order of the others.
+     *
+     * Linear time - O(n): one pass with two fingers over the buffer, a read
+     * finger that tests each value and a write finger that copies down the
+     * ones that stay, so each kept value moves at most once. If the filter
+     * throws, the values it did not get to are kept.
+     *
+     * @param filter returns true for the values to be removed
+     * @return true if any value was removed
+     * @throws NullPointerException if the filter is null
+     */
+    @Override
+    public boolean removeIf(IntPredicate filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int oldSize = size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < size; read++) {
+                int value = buffer[read];
+                if (!filter.test(value)) {
+                    buffer[write++] = value;
+                }
+            }
+        } finally {
+            // the filter threw: close the gap in front of the untested values
+            if (read < size) {
+                System.arraycopy(buffer, read, buffer, write, size - read);
+                write += size - read;
+            }
+            if (write < size) {
+                Arrays.fill(buffer, write, size, 0);  // clear the old elements at the end
+                size = write;
+                indexStale = true;
+                shrinkIfSparse();
+            }
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Replaces each value with the result of applying the operator to it,
+     * front to back, in place.
+     *
+     * Linear time - O(n)
+     *
+     * @param operator the operator to apply to each value
+     * @throws NullPointerException if the operator is null
+     */
+    @Override
+    public void replaceAll(IntUnaryOperator operator) {
+        if (operator == null) {
+            throw new NullPointerException();
+        }
+        indexStale = true;
+        for (int i = 0; i < size; i++) {
+            buffer[i] = operator.applyAsInt(buffer[i]);
+        }
+    }
+
+    /**
+     * Sorts the values of this list in ascending order, in place.
+     *
+     * O(n log n) - Arrays.sort on buffer[0..size), a dual-pivot quicksort
+     */
+    @Override
+    public void sort() {
+        Arrays.sort(buffer, 0, size);
+        indexStale = true;
+    }
+
+    /**
+     * Sorts the values of this list in the order the comparator gives,
+     * keeping values the comparator calls equal in their order.
+     *
+     * O(n log n) - a merge sort on buffer[0..size) with one work array
+     *
+     * @param comparator decides the order of two values
+     * @throws NullPointerException if the comparator is null
+     */
+    @Override
+    public void sort(IntComparator comparator) {
+        IntSorting.sort(buffer, 0, size, comparator);
+        indexStale = true;
+    }
+
+    /**
+     * Sorts the values of this list in ascending order, in place, using
+     * the common fork-join pool when the list is large enough to gain
+     * from it (Arrays.parallelSort on buffer[0..size)).
+     */
+    @Override
+    public void parallelSort() {
+        Arrays.parallelSort(buffer, 0, size);
+        indexStale = true;
+    }
+
+    /**
+     * Writes the values of this list to a channel in the binary format of
+     * IntListCodec, with a CRC32C checksum per block. The buffer is copied
+     * into the channel's block buffer in bulk, with no iterator.
+     *
+     * @param channel a blocking channel to write to; it is not closed
+     * @throws IOException if writing to the channel fails
+     */
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(channel, true);
+    }
+
+    // IntListCodec.write(IntList, ...) comes here too
+    void writeTo(WritableByteChannel channel, boolean checksum) throws IOException {
+        IntListCodec.write(buffer, 0, size, channel, checksum);
+    }
+
+    /**
+     * Turns the hash index on or off.
+     *
+     * With the index on, contains and indexOf take O(1) on average instead
+     * of scanning the buffer. The index is an open-addressing hash table that
+     * maps each distinct value to the position of its first occurrence. It
+     * stores only positions (the values are read back from the buffer), so
+     * nothing is boxed.
+     *
+     * Memory: one int per table slot, and the table has between 2 and 4
+     * slots per distinct value, so 8 to 16 extra bytes per value, on top of
+     * the 4 bytes per value of the list itself.
+     *
+     * Upkeep: addBack and addAll at the back update the index as they go.
+     * Every other change (adds and removes at the front or in the middle,
+     * removeBack, clear, ...) only marks the index stale, and the next lookup
+     * rebuilds it, which costs about as much as ten linear scans.
+     *
+     * Break-even: when the list only grows at the back, indexed lookups beat
+     * the scan at every size (even 16 values). When other changes happen,
+     * the index pays off only if about ten or more lookups follow each
+     * change; if changes and lookups alternate, it is several times slower
+     * than scanning. LookupBenchmark in the benchmarks project measures this
+     * on a given machine. Lists of more than 2^28 values always scan.
+     *
+     * @param indexed true to turn the index on, false to turn it off and free it
+     */
+    public void setIndexed(boolean indexed) {
+        if (indexed && indexTable == null) {
+            indexTable = new int[16];
+            indexStale = true;
+        } else if (!indexed) {
+            indexTable = null;
+            indexCount = 0;
+        }
+    }
+
+    /**
+     * Returns true if the hash index is turned on.
+     *
+     * @return true if contains and indexOf use the hash index
+     */
+    public boolean isIndexed() {
+        return indexTable != null;
+    }
+
+    // spreads the bits of a value so nearby values land in different slots
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // looks a value up in the index, rebuilding it first if it is stale
+    private int indexLookup(int value) {
+        if (indexStale) {
+            rebuildIndex();
+        }
+        int mask = indexTable.length - 1;
+        for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+            int entry = indexTable[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (buffer[entry - 1] == value) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /*
+     * Records position in the index if its value is not there yet (an earlier
+     * position of the same value wins). If the table gets more than half full
+     * the index is marked stale, so the next lookup rebuilds it larger.
+     */
+    private void indexAdd(int position) {
+        int value = buffer[position];
+        int mask = indexTable.length - 1;
+        for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+            int entry = indexTable[slot];
+            if (entry == 0) {
+                indexTable[slot] = position + 1;
+                indexCount++;
+                if (indexCount * 2 > indexTable.length) {
+                    indexStale = true;
+                }
+                return;
+            }
+            if (buffer[entry - 1] == value) {
+                return;
+            }
+        }
+    }
+
+    // records the positions from 'from' to size - 1 after values were appended
+    private void indexAddRange(int from) {
+        if (indexTable == null || indexStale) {
+            return;
+        }
+        for (int i = from; i < size && !indexStale; i++) {
+            indexAdd(i);
+        }
+    }
+
+    // builds the index from scratch, with 2 to 4 slots per value
+    private void rebuildIndex() {
+        int tableSize = Math.max(16, Integer.highestOneBit(Math.max(size, 1)) << 2);
+        if (indexTable.length == tableSize) {
+            Arrays.fill(indexTable, 0);
+        } else {
+            indexTable = new int[tableSize];
+        }
+        indexCount = 0;
+        indexStale = false;
+        for (int i = 0; i < size; i++) {
+            indexAdd(i);
+        }
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        // return a new instance of the helper iterator class (below)
+        return new ArrayIntlistIterator();
+    }
+
+    /**
+     * Returns a spliterator over the values in this list, for streams.
+     * It splits by index range, in halves, straight over the buffer,
+     * so parallel streams divide the work evenly.
+     * The list must not be changed while the spliterator is in use.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(buffer, 0, size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a cursor over this list that starts in front of the value at
+     * the specified index. Moving it and set(value) are O(1) on the buffer;
+     * add(value) and remove() shift the values after the cursor, like
+     * add(index, value) and remove(index).
+     *
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before that value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public IntListIterator listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new ArrayListIterator(index);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * Walks the buffer directly, so no iterator object is created either.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        for (int i = 0; i < size; i++) {
+            action.accept(buffer[i]);
+        }
+    }
+
+    /**
+     * Returns true if the other object is an ArrayIntList holding
+     * the same values in the same order.
+     *
+     * The buffers are compared with Arrays.equals, which the JVM
+     * already compiles to a SIMD loop.
+     *
+     * @param other the object to compare with
+     * @return true if other is an equal ArrayIntList
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ArrayIntList)) {
+            return false;
+        }
+        ArrayIntList that = (ArrayIntList) other;
+        return size == that.size && Arrays.equals(buffer, 0, size, that.buffer, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString(){
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        sb.append(buffer[0]);
+        for (int i = 1; i < size; i++) {
+            sb.append(", ").append(buffer[i]);
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class ArrayIntlistIterator implements IntIterator {
+        private int currentPosition;
+
+        public boolean ArrayIntListIterator() {
+            currentPosition = 0;
+            return false;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < size;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer[currentPosition++];
+        }
+    }
+
+    // nested or inner class (helper class)
+    public class ArrayListIterator implements IntListIterator {
+        private int cursor;                 // index of the value nextInt() returns
+        private int lastReturned = -1;      // index of the last value returned, -1 if none
+
+        public ArrayListIterator(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return buffer[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public int previousInt() {
+            if (cursor == 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --cursor;
+            return buffer[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            ArrayIntList.this.remove(lastReturned);
+            if (lastReturned < cursor) {
+                cursor--;
+            }
+            lastReturned = -1;
+        }
+
+        @Override
+        public void set(int value) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            buffer[lastReturned] = value;
+            indexStale = true;
+        }
+
+        @Override
+        public void add(int value) {
+            ArrayIntList.this.add(cursor++, value);
+            lastReturned = -1;
+        }
+    }
+
+}       // end of ArrayIntList
+
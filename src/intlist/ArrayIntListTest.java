@@ -0,0 +1,462 @@
+package intlist;
+
+import static org.junit.jupiter.api.Assertions.*;
+class ArrayIntListTest {
+
+    @org.junit.jupiter.api.Test
+    void addFront() {
+    }
+
+    @org.junit.jupiter.api.Test
+    void addBackWithEmptyList() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addBack(42);
+        int count = theList.size();
+        // assertEquals(count, 1);
+        String out = theList.toString();
+        assertEquals(out,"[42]");
+    }
+
+    @org.junit.jupiter.api.Test
+    void addBackWithNonEmptyList() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addBack(1);
+        theList.addBack(2);
+        theList.addBack(3);
+        theList.addBack(42);
+        assertEquals(theList.get(theList.size()-1), 42);
+
+        // int count = theList.size();
+        // assertEquals(count, 1);
+        // String out = theList.toString();
+        // assertEquals(out,"[42]");
+    }
+
+    @org.junit.jupiter.api.Test
+    void addBackWithResize() {
+        ArrayIntList theList = new ArrayIntList();
+        // fill the list with INITIAL_CAPACITY or 10 items
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);
+        }
+
+        // now add item 11
+        theList.addBack(42);
+
+        assertEquals(theList.get(theList.size()-1), 42);
+    }
+
+    @org.junit.jupiter.api.Test
+    void addBackWithMultipleResizes() {
+        ArrayIntList theList = new ArrayIntList();
+
+        for (int i = 0; i < 1000000; i++) {
+            theList.addBack(i);
+        }
+
+        // now add item
+        theList.addBack(42);
+
+        assertEquals(theList.get(theList.size()-1), 42);
+    }
+
+    @org.junit.jupiter.api.Test
+    void add() {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);
+        }
+        theList.add(5, 42);
+        theList.add(11, 43);
+
+        assertEquals("[0, 1, 2, 3, 4, 42, 5, 6, 7, 8, 9, 43]", theList.toString());
+    }
+
+    @org.junit.jupiter.api.Test
+    void addAllGrowsOnce() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addBack(-1);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        theList.addAll(values);
+
+        assertEquals(1001, theList.size());
+        assertEquals(999, theList.get(1000));
+
+        theList.addAll(theList);
+        assertEquals(2002, theList.size());
+        assertEquals(-1, theList.get(1001));
+    }
+
+    @org.junit.jupiter.api.Test
+    void addAllAtIndex() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[] {0, 1, 5, 6});
+        theList.addAll(2, new int[] {2, 3, 4});
+
+        assertEquals("[0, 1, 2, 3, 4, 5, 6]", theList.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.addAll(8, new int[] {1}));
+    }
+
+    @org.junit.jupiter.api.Test
+    void toArrayAndRemoveRange() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[] {0, 1, 2, 3, 4, 5, 6});
+        theList.removeRange(2, 5);
+
+        assertArrayEquals(new int[] {0, 1, 5, 6}, theList.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.removeRange(3, 2));
+    }
+
+    @org.junit.jupiter.api.Test
+    void removeFront() {
+    }
+    @org.junit.jupiter.api.Test
+    void removeBackFromEmptyList() {
+        // create an empty list
+        ArrayIntList thelist = new ArrayIntList();
+
+        assertThrows(IllegalStateException.class, () ->{
+            throw new IllegalStateException();
+        });
+
+    }
+    @org.junit.jupiter.api.Test
+    void removeBackFromSingletonList() {
+
+    }
+
+    @org.junit.jupiter.api.Test
+    void removeBackFroListOf10() {
+        // create a list
+        ArrayIntList thelist = new ArrayIntList();
+
+        // fill list with 10 items "[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]"
+        for (int i = 0; i < 10; i++) {
+            thelist.addBack(i);
+        }
+
+        // remove the item in the back
+        thelist.removeBack();
+
+        String out = thelist.toString();
+        assertEquals(out, "[0, 1, 2, 3, 4, 5, 6, 7, 8]");
+
+    }
+
+    @org.junit.jupiter.api.Test
+    void remove() {
+
+    }
+
+    @org.junit.jupiter.api.Test
+    void get() {
+    }
+
+    @org.junit.jupiter.api.Test
+    void contains() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[] {3, 1, 4, 1, 5});
+
+        assertTrue(theList.contains(4));
+        assertFalse(theList.contains(2));
+    }
+
+    @org.junit.jupiter.api.Test
+    void indexOf() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[] {3, 1, 4, 1, 5});
+
+        assertEquals(1, theList.indexOf(1));
+        assertEquals(4, theList.indexOf(5));
+        assertEquals(-1, theList.indexOf(9));
+    }
+
+    @org.junit.jupiter.api.Test
+    void indexedLookupsMatchScans() {
+        ArrayIntList indexed = new ArrayIntList();
+        ArrayIntList plain = new ArrayIntList();
+        indexed.setIndexed(true);
+        assertTrue(indexed.isIndexed());
+        java.util.Random random = new java.util.Random(42);
+
+        for (int i = 0; i < 3000; i++) {
+            int value = random.nextInt(200);
+            switch (random.nextInt(8)) {
+                case 0:
+                    indexed.addFront(value);
+                    plain.addFront(value);
+                    break;
+                case 1:
+                    if (!plain.isEmpty()) {
+                        int index = random.nextInt(plain.size());
+                        assertEquals(plain.remove(index), indexed.remove(index));
+                    }
+                    break;
+                case 2:
+                    if (!plain.isEmpty()) {
+                        indexed.removeBack();
+                        plain.removeBack();
+                    }
+                    break;
+                case 3:
+                    indexed.addAll(new int[] {value, value + 1});
+                    plain.addAll(new int[] {value, value + 1});
+                    break;
+                default:
+                    indexed.addBack(value);
+                    plain.addBack(value);
+            }
+            int probe = random.nextInt(220);
+            assertEquals(plain.indexOf(probe), indexed.indexOf(probe));
+            assertEquals(plain.contains(probe), indexed.contains(probe));
+        }
+
+        indexed.clear();
+        assertFalse(indexed.contains(0));
+        indexed.setIndexed(false);
+        assertFalse(indexed.isIndexed());
+    }
+
+    @org.junit.jupiter.api.Test
+    void isEmpty() {
+    }
+
+    @org.junit.jupiter.api.Test
+    void size() {
+    }
+
+    @org.junit.jupiter.api.Test
+    void clear() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[1000]);
+        theList.clear();
+        assertTrue(theList.isEmpty());
+        assertTrue(theList.capacity() >= 1000);     // keeps the buffer by default
+
+        theList.addAll(new int[1000]);
+        theList.setShrinkOnClear(true);
+        theList.clear();
+        assertTrue(theList.isEmpty());
+        assertEquals(10, theList.capacity());
+    }
+
+    @org.junit.jupiter.api.Test
+    void presizedListDoesNotResize() {
+        ArrayIntList theList = new ArrayIntList(1000);
+        for (int i = 0; i < 1000; i++) {
+            theList.addBack(i);
+        }
+
+        assertEquals(1000, theList.capacity());
+        theList.addBack(1000);
+        assertEquals(2000, theList.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ArrayIntList(-1));
+    }
+
+    @org.junit.jupiter.api.Test
+    void ensureCapacityAndTrimToSize() {
+        ArrayIntList theList = new ArrayIntList(0);
+        theList.addBack(1);
+        theList.ensureCapacity(500);
+        assertEquals(500, theList.capacity());
+
+        theList.addBack(2);
+        theList.trimToSize();
+        assertEquals(2, theList.capacity());
+        assertEquals("[1, 2]", theList.toString());
+        assertThrows(OutOfMemoryError.class, () -> theList.ensureCapacity(Integer.MAX_VALUE));
+    }
+
+    @org.junit.jupiter.api.Test
+    void growthPolicies() {
+        ArrayIntList theList = new ArrayIntList(100, GrowthPolicy.factor(1.5));
+        theList.addAll(new int[101]);
+        assertEquals(150, theList.capacity());
+
+        theList.setGrowthPolicy(GrowthPolicy.fixedIncrement(10));
+        theList.addAll(new int[50]);
+        assertEquals(160, theList.capacity());
+
+        theList.setGrowthPolicy(GrowthPolicy.capped(64));
+        theList.addAll(new int[10]);
+        assertEquals(224, theList.capacity());
+
+        assertEquals(Integer.MAX_VALUE, GrowthPolicy.doubling().newCapacity(1 << 30, (1 << 30) + 1));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.factor(1.0));
+    }
+
+    @org.junit.jupiter.api.Test
+    void lowWaterMarkShrinks() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.setLowWaterMark(0.25);
+        for (int i = 0; i < 1280; i++) {
+            theList.addBack(i);
+        }
+        assertEquals(1280, theList.capacity());
+
+        theList.removeRange(100, 1280);
+        assertTrue(theList.capacity() < 1280);
+        while (theList.size() > 1) {
+            theList.removeBack();
+        }
+        assertEquals(10, theList.capacity());
+        assertEquals("[0]", theList.toString());
+    }
+
+    @org.junit.jupiter.api.Test
+    void iterator() {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 0; i < 20; i++) {
+            theList.addBack(i * 1000);
+        }
+
+        IntIterator itr = theList.iterator();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(itr.hasNext());
+            assertEquals(i * 1000, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertThrows(java.util.NoSuchElementException.class, itr::nextInt);
+    }
+
+    @org.junit.jupiter.api.Test
+    void forEachInt() {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 0; i < 20; i++) {
+            theList.addBack(i * 1000);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        theList.forEachInt(value -> sb.append(value).append(' '));
+        int sum = 0;
+        for (int value : theList) {         // boxed path still works
+            sum += value;
+        }
+
+        assertEquals(190000, sum);
+        assertEquals("0 1000 2000 3000 4000 5000 6000 7000 8000 9000 10000 "
+                + "11000 12000 13000 14000 15000 16000 17000 18000 19000 ", sb.toString());
+    }
+
+    @org.junit.jupiter.api.Test
+    void testToString() {
+    }
+
+    @org.junit.jupiter.api.Test
+    void streamSplitsByIndexRange() {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 1; i <= 100_000; i++) {
+            theList.addBack(i);
+        }
+
+        java.util.Spliterator.OfInt all = theList.spliterator();
+        assertTrue(all.hasCharacteristics(java.util.Spliterator.SIZED | java.util.Spliterator.SUBSIZED
+                | java.util.Spliterator.ORDERED));
+        java.util.Spliterator.OfInt firstHalf = all.trySplit();
+        assertEquals(50_000, firstHalf.estimateSize());
+        assertEquals(50_000, all.estimateSize());
+
+        assertEquals(5_000_050_000L, theList.stream().asLongStream().sum());
+        assertEquals(5_000_050_000L, theList.parallelStream().asLongStream().sum());
+        assertArrayEquals(theList.toArray(), theList.parallelStream().map(v -> v).toArray());
+    }
+
+    @org.junit.jupiter.api.Test
+    void removeIfCompactsInOnePass() {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 0; i < 20; i++) {
+            theList.addBack(i);
+        }
+        theList.setIndexed(true);
+
+        assertTrue(theList.removeIf(value -> value % 3 == 0));
+        assertFalse(theList.removeIf(value -> value < 0));
+        assertEquals("[1, 2, 4, 5, 7, 8, 10, 11, 13, 14, 16, 17, 19]", theList.toString());
+        assertEquals(-1, theList.indexOf(9));           // the index sees the compaction
+        assertEquals(2, theList.indexOf(4));
+
+        assertTrue(theList.removeAll(1, 19, 42));
+        ArrayIntList keep = new ArrayIntList();
+        keep.addAll(new int[] {17, 2, 8, 8});
+        assertTrue(theList.retainAll(keep));
+        assertEquals("[2, 8, 17]", theList.toString());
+
+        theList.replaceAll(value -> value * 10);
+        assertEquals("[20, 80, 170]", theList.toString());
+        assertEquals(1, theList.indexOf(80));
+    }
+
+    @org.junit.jupiter.api.Test
+    void removeIfKeepsUntestedValuesWhenFilterThrows() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[] {1, 2, 3, 4, 5, 6});
+
+        assertThrows(IllegalStateException.class, () -> theList.removeIf(value -> {
+            if (value == 4) {
+                throw new IllegalStateException();
+            }
+            return value % 2 == 0;
+        }));
+        assertEquals("[1, 3, 4, 5, 6]", theList.toString());
+    }
+
+    @org.junit.jupiter.api.Test
+    void listIteratorThroughPositions() {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[] {1, 2, 3});
+
+        IntListIterator cursor = theList.listIterator(1);
+        assertEquals(2, cursor.nextInt());
+        cursor.set(20);
+        cursor.add(25);
+        assertEquals(25, cursor.previousInt());
+        cursor.remove();
+        assertEquals(20, cursor.previousInt());
+        assertEquals(1, cursor.previousInt());
+        assertFalse(cursor.hasPrevious());
+        assertEquals("[1, 20, 3]", theList.toString());
+        assertThrows(java.util.NoSuchElementException.class, cursor::previousInt);
+    }
+
+    @org.junit.jupiter.api.Test
+    void sortInPlace() {
+        java.util.Random random = new java.util.Random(23);
+        int[] values = random.ints(50_000, -1000, 1000).toArray();
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(values);
+        theList.setIndexed(true);
+        int[] expected = values.clone();
+        java.util.Arrays.sort(expected);
+
+        theList.sort();
+        assertArrayEquals(expected, theList.toArray());
+        assertEquals(0, theList.indexOf(-1000));        // the index sees the new order
+
+        theList.sort(IntComparator.naturalOrder().reversed());
+        assertEquals(999, theList.get(0));
+        assertEquals(-1000, theList.get(theList.size() - 1));
+
+        theList.parallelSort();
+        assertArrayEquals(expected, theList.toArray());
+    }
+
+    @org.junit.jupiter.api.Test
+    void sortWithComparatorIsStable() {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 0; i < 1000; i++) {
+            theList.addBack((i % 10) * 1000 + i);       // ordered by the last three digits
+        }
+
+        // compare by thousands only: equal keys must keep ascending i
+        theList.sort((a, b) -> Integer.compare(b / 1000, a / 1000));
+        int[] sorted = theList.toArray();
+        for (int i = 1; i < sorted.length; i++) {
+            assertTrue(sorted[i - 1] / 1000 > sorted[i] / 1000
+                    || (sorted[i - 1] / 1000 == sorted[i] / 1000 && sorted[i - 1] < sorted[i]));
+        }
+        assertThrows(NullPointerException.class, () -> theList.sort(null));
+    }
+}
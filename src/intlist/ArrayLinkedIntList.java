@@ -0,0 +1,797 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A doubly linked IntList without node objects.
+ *
+ * Each node is a slot number, and the node's value and links sit at that
+ * slot in three parallel int arrays: data, next and prev. A node costs
+ * 12 bytes. A Node object of LinkedIntList costs about 32: the object
+ * header, the value, two references and the reference to the enclosing list.
+ *
+ * Removed slots go on a free list, threaded through next[], and the next
+ * add reuses them. Once the arrays have grown to the largest size the list
+ * reaches, adding and removing allocate nothing, so churn does not feed
+ * the garbage collector. The arrays never shrink by themselves; compact()
+ * lays the nodes out in list order and trims the arrays to size.
+ *
+ * Linking and unlinking are O(1) as in LinkedIntList. Positional access
+ * walks from the closest of head, tail and the finger (the slot reached
+ * by the last walk), like LinkedIntList.
+ */
+public class ArrayLinkedIntList implements IntList {
+    // Internal (private) representation
+    private int[] data;                 // value of the node in each slot
+    private int[] next;                 // slot of the next node (NIL after tail); also links the free list
+    private int[] prev;                 // slot of the previous node (NIL before head)
+    private int head;                   // slot of the first node, NIL if empty
+    private int tail;                   // slot of the last node, NIL if empty
+    private int size;                   // number of nodes/items in list
+    private int freeHead;               // first slot of the free list, NIL if it is empty
+    private int used;                   // slots from here up have not been handed out since the last clear
+
+    // the "finger": the slot reached by the last positional walk, and its index
+    private int finger;                 // NIL when there is no finger
+    private int fingerIndex;            // index of finger, kept up to date by every change
+
+    private static final int NIL = -1;
+
+    private final static int INITIAL_CAPACITY = 10;
+
+    // some VMs reserve a few header words in an array, so stay a bit below Integer.MAX_VALUE
+    private final static int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    public ArrayLinkedIntList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for initialCapacity nodes, so that
+     * the list can hold that many values without growing its arrays.
+     *
+     * @param initialCapacity the starting length of the arrays
+     * @throws IllegalArgumentException if initialCapacity is negative
+     * or greater than the maximum array size
+     */
+    public ArrayLinkedIntList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        data = new int[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+        finger = NIL;
+    }
+
+    /**
+     * Returns the number of nodes the arrays have room for.
+     *
+     * @return the length of the arrays
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    // makes sure count more nodes fit, growing the arrays at most once
+    private void ensureRoomFor(int count) {
+        long needed = (long) size + count;
+        if (needed > data.length) {
+            if (needed > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required capacity too large: " + needed);
+            }
+            int newCapacity = (int) Math.max(needed, Math.min(2L * data.length, MAX_CAPACITY));
+            data = Arrays.copyOf(data, newCapacity);
+            next = Arrays.copyOf(next, newCapacity);
+            prev = Arrays.copyOf(prev, newCapacity);
+        }
+    }
+
+    // links a new node holding value between two slots (either may be NIL) and returns its slot
+    private int linkBetween(int value, int before, int after) {
+        ensureRoomFor(1);
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            slot = used++;
+        }
+        data[slot] = value;
+        prev[slot] = before;
+        next[slot] = after;
+        if (before == NIL) {
+            head = slot;
+        } else {
+            next[before] = slot;
+        }
+        if (after == NIL) {
+            tail = slot;
+        } else {
+            prev[after] = slot;
+        }
+        size++;
+        return slot;
+    }
+
+    // unlinks a node, fixing head, tail and the finger, and puts its slot on the free list
+    private int unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        if (slot == finger) {
+            // move to the neighbour that takes over the index, or the one before it
+            if (after != NIL) {
+                finger = after;
+            } else {
+                finger = before;
+                fingerIndex--;
+            }
+        } else if (slot == head) {
+            fingerIndex--;              // (harmless when there is no finger)
+        } else if (slot != tail) {
+            finger = NIL;               // somewhere unknown, so the index may be off
+        }
+        if (before == NIL) {
+            head = after;
+        } else {
+            next[before] = after;
+        }
+        if (after == NIL) {
+            tail = before;
+        } else {
+            prev[after] = before;
+        }
+        size--;
+        next[slot] = freeHead;
+        freeHead = slot;
+        return data[slot];
+    }
+
+    /**
+     * Returns the slot at the specified position. Walks from head, from
+     * tail or from the finger, whichever is closest, and leaves the finger
+     * on the slot it returns. The index must already have been checked.
+     */
+    private int slot(int index) {
+        int current = head;
+        int position = 0;
+        int distance = index;
+        if (size - 1 - index < distance) {
+            current = tail;
+            position = size - 1;
+            distance = size - 1 - index;
+        }
+        if (finger != NIL && Math.abs(index - fingerIndex) < distance) {
+            current = finger;
+            position = fingerIndex;
+        }
+        for (; position < index; position++) {
+            current = next[current];
+        }
+        for (; position > index; position--) {
+            current = prev[current];
+        }
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * O(1) constant time (amortized, the arrays may have to grow)
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        linkBetween(value, NIL, head);
+        if (finger != NIL) {
+            fingerIndex++;
+        }
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * O(1) constant time (amortized, the arrays may have to grow)
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        linkBetween(value, tail, NIL);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * O(n) linear to find the position, then O(1) to link the node in
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            addBack(value);
+            return;
+        }
+        int after = slot(index);
+        finger = linkBetween(value, prev[after], after);
+        fingerIndex = index;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     *
+     * O(1) constant time
+     */
+    @Override
+    public void removeFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        unlink(head);
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     *
+     * O(1) constant time
+     */
+    @Override
+    public void removeBack() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        unlink(tail);
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return unlink(slot(index));
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * O(n) linear, but walks from the closest of head, tail and the finger
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return data[slot(index)];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int current = head;
+        for (int index = 0; current != NIL; index++) {
+            if (data[current] == value) {
+                return index;
+            }
+            current = next[current];
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * Walks backwards from tail, so it stops at the last occurrence.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        int current = tail;
+        for (int index = size - 1; current != NIL; index--) {
+            if (data[current] == value) {
+                return index;
+            }
+            current = prev[current];
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     *
+     * O(1) constant time - every slot becomes free at once, and the
+     * arrays are kept for the values added next.
+     */
+    @Override
+    public void clear() {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+        finger = NIL;
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        linkAll(size, values);
+    }
+
+    /**
+     * Appends all the values of the specified list, in order, at the back
+     * of this list. The other list is not changed (it may be this list).
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other) {
+        linkAll(size, other.toArray());
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right by values.length.
+     *
+     * Grows the arrays at most once and walks to the index once.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        linkAll(index, values);
+    }
+
+    // links the values in, in order, in front of the node at index (or after tail when index == size)
+    private void linkAll(int index, int[] values) {
+        if (values.length == 0) {
+            return;
+        }
+        ensureRoomFor(values.length);
+        int after = (index == size) ? NIL : slot(index);
+        int before = (after == NIL) ? tail : prev[after];
+        for (int value : values) {
+            before = linkBetween(value, before, after);
+        }
+        if (finger != NIL && fingerIndex >= index) {
+            fingerIndex += values.length;
+        }
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        int current = head;
+        for (int i = 0; i < size; i++) {
+            result[i] = data[current];
+            current = next[current];
+        }
+        return result;
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive). Shifts any subsequent values to the left.
+     *
+     * Walks to fromIndex once, then unlinks the run of nodes one by one
+     * so that their slots go back on the free list.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex
+                    + ", Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        // the finger sits on the node being removed, so unlink keeps it right
+        int current = slot(fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            int following = next[current];
+            unlink(current);
+            current = following;
+        }
+    }
+
+    /**
+     * Removes every value that satisfies the given predicate, keeping the
+     * order of the others.
+     *
+     * O(n) linear: one walk from head, unlinking each matching node where it is.
+     *
+     * @param filter returns true for the values to be removed
+     * @return true if any value was removed
+     * @throws NullPointerException if the filter is null
+     */
+    @Override
+    public boolean removeIf(IntPredicate filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int oldSize = size;
+        int current = head;
+        while (current != NIL) {
+            int following = next[current];
+            if (filter.test(data[current])) {
+                unlink(current);
+            }
+            current = following;
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Replaces each value with the result of applying the operator to it,
+     * front to back, in place.
+     *
+     * O(n) linear
+     *
+     * @param operator the operator to apply to each value
+     * @throws NullPointerException if the operator is null
+     */
+    @Override
+    public void replaceAll(IntUnaryOperator operator) {
+        if (operator == null) {
+            throw new NullPointerException();
+        }
+        for (int current = head; current != NIL; current = next[current]) {
+            data[current] = operator.applyAsInt(data[current]);
+        }
+    }
+
+    /**
+     * Sorts the values of this list in ascending order.
+     *
+     * O(n log n) - the values are copied out, sorted with Arrays.sort and
+     * written back along the list, so the nodes keep their slots and the
+     * finger stays valid. The copy is the one allocation.
+     */
+    @Override
+    public void sort() {
+        int[] values = toArray();
+        Arrays.sort(values);
+        writeBack(values);
+    }
+
+    /**
+     * Sorts the values of this list in the order the comparator gives,
+     * keeping values the comparator calls equal in their order.
+     *
+     * @param comparator decides the order of two values
+     * @throws NullPointerException if the comparator is null
+     */
+    @Override
+    public void sort(IntComparator comparator) {
+        int[] values = toArray();
+        IntSorting.sort(values, 0, values.length, comparator);
+        writeBack(values);
+    }
+
+    /**
+     * Sorts the values of this list in ascending order, sorting the copy
+     * with Arrays.parallelSort.
+     */
+    @Override
+    public void parallelSort() {
+        int[] values = toArray();
+        Arrays.parallelSort(values);
+        writeBack(values);
+    }
+
+    // stores the values into the nodes, front to back
+    private void writeBack(int[] values) {
+        int current = head;
+        for (int value : values) {
+            data[current] = value;
+            current = next[current];
+        }
+    }
+
+    /**
+     * Moves the nodes into slots 0 to size()-1 in list order, empties the
+     * free list and trims the arrays to size().
+     *
+     * After a lot of churn the nodes are scattered over the arrays, so a
+     * walk jumps around in memory; after compact() it reads the arrays
+     * front to back. Allocates three new arrays.
+     *
+     * Linear time - O(n)
+     */
+    public void compact() {
+        int[] newData = new int[size];
+        int[] newNext = new int[size];
+        int[] newPrev = new int[size];
+        int current = head;
+        for (int i = 0; i < size; i++) {
+            newData[i] = data[current];
+            newNext[i] = i + 1;
+            newPrev[i] = i - 1;
+            current = next[current];
+        }
+        if (size > 0) {
+            newNext[size - 1] = NIL;
+        }
+        data = newData;
+        next = newNext;
+        prev = newPrev;
+        head = (size == 0) ? NIL : 0;
+        tail = size - 1;                // NIL when empty
+        freeHead = NIL;
+        used = size;
+        if (finger != NIL) {
+            finger = fingerIndex;       // each node now sits in the slot of its index
+        }
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order
+     * from front to back. Its remove() unlinks in O(1).
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new ArrayLinkedIterator();
+    }
+
+    /**
+     * Returns a cursor over this list that starts in front of the value at
+     * the specified index. Moving it and setting, adding or removing where
+     * it stands are all O(1); only getting to the starting index walks.
+     *
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before that value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public IntListIterator listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new ArrayLinkedListIterator(index);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        for (int current = head; current != NIL; current = next[current]) {
+            action.accept(data[current]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int current = head; current != NIL; current = next[current]) {
+            if (current != head) {
+                sb.append(", ");
+            }
+            sb.append(data[current]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class ArrayLinkedIterator implements IntIterator {
+        private int current = head;         // slot nextInt() returns, NIL at the back
+        private int lastReturned = NIL;     // slot of the last nextInt(), NIL after remove()
+
+        @Override
+        public boolean hasNext() {
+            return current != NIL;
+        }
+
+        @Override
+        public int nextInt() {
+            if (current == NIL) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = current;
+            current = next[current];
+            return data[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            unlink(lastReturned);
+            lastReturned = NIL;
+        }
+    }
+
+    // nested or inner class (helper class)
+    public class ArrayLinkedListIterator implements IntListIterator {
+        private int nextSlot;               // slot nextInt() returns, NIL at the back
+        private int nextIndex;              // index of nextSlot
+        private int lastReturned = NIL;     // slot of the last nextInt() or previousInt(), NIL if none
+
+        public ArrayLinkedListIterator(int index) {
+            nextSlot = (index == size) ? NIL : slot(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (nextSlot == NIL) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return data[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public int previousInt() {
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            nextSlot = (nextSlot == NIL) ? tail : prev[nextSlot];
+            lastReturned = nextSlot;
+            nextIndex--;
+            return data[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            if (lastReturned == nextSlot) {
+                // returned by previousInt(): the cursor moves on to the node after it
+                nextSlot = next[nextSlot];
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = NIL;
+        }
+
+        @Override
+        public void set(int value) {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            data[lastReturned] = value;
+        }
+
+        @Override
+        public void add(int value) {
+            int before = (nextSlot == NIL) ? tail : prev[nextSlot];
+            finger = linkBetween(value, before, nextSlot);
+            fingerIndex = nextIndex;
+            nextIndex++;
+            lastReturned = NIL;
+        }
+    }
+
+}       // end of ArrayLinkedIntList
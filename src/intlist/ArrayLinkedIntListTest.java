@@ -0,0 +1,182 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayLinkedIntListTest {
+
+    @Test
+    void addAndRemoveAtBothEnds() {
+        ArrayLinkedIntList theList = new ArrayLinkedIntList();
+        theList.addBack(2);
+        theList.addFront(1);
+        theList.addBack(3);
+        theList.add(1, 9);
+
+        assertEquals("[1, 9, 2, 3]", theList.toString());
+        assertEquals(9, theList.remove(1));
+        theList.removeFront();
+        theList.removeBack();
+        assertEquals("[2]", theList.toString());
+        assertEquals(0, theList.indexOf(2));
+        theList.removeBack();
+        assertTrue(theList.isEmpty());
+        assertEquals("[]", theList.toString());
+
+        assertThrows(NoSuchElementException.class, theList::removeFront);
+        assertThrows(NoSuchElementException.class, theList::removeBack);
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.add(1, 0));
+    }
+
+    @Test
+    void churnReusesSlots() {
+        ArrayLinkedIntList theList = new ArrayLinkedIntList(100);
+        for (int i = 0; i < 100; i++) {
+            theList.addBack(i);
+        }
+        // a queue at a steady size: every add takes the slot of a removed node
+        for (int i = 100; i < 100_000; i++) {
+            theList.removeFront();
+            theList.addBack(i);
+            if (i % 3 == 0) {
+                theList.remove(50);
+                theList.add(25, i);
+            }
+        }
+
+        assertEquals(100, theList.capacity());
+        assertEquals(100, theList.size());
+        assertEquals(99_999, theList.get(99));
+    }
+
+    @Test
+    void compactKeepsOrder() {
+        ArrayLinkedIntList theList = new ArrayLinkedIntList();
+        for (int i = 0; i < 1000; i++) {
+            theList.addFront(i);
+        }
+        theList.removeIf(value -> value % 4 != 0);
+        theList.get(100);                       // leaves a finger to carry over
+
+        theList.compact();
+        assertEquals(250, theList.capacity());
+        assertEquals(996, theList.get(0));
+        assertEquals(596, theList.get(100));
+        assertEquals(0, theList.get(249));
+        theList.addBack(-1);
+        theList.add(100, -2);
+        assertEquals(-2, theList.get(100));
+        assertEquals(596, theList.get(101));
+        assertEquals(252, theList.size());
+
+        theList.clear();
+        theList.compact();
+        assertEquals(0, theList.capacity());
+        theList.addBack(5);
+        assertEquals("[5]", theList.toString());
+    }
+
+    @Test
+    void randomChangesMatchArrayList() {
+        ArrayLinkedIntList theList = new ArrayLinkedIntList(0);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(22);
+        for (int step = 0; step < 30_000; step++) {
+            int size = expected.size();
+            int index = random.nextInt(size + 1);
+            switch (random.nextInt(10)) {
+                case 0: theList.addFront(step); expected.add(0, step); break;
+                case 1: theList.addBack(step); expected.add(step); break;
+                case 2: theList.add(index, step); expected.add(index, step); break;
+                case 3:
+                    if (size > 0) {
+                        theList.removeBack();
+                        expected.remove(size - 1);
+                    }
+                    break;
+                case 4:
+                    if (index < size) {
+                        assertEquals((int) expected.remove(index), theList.remove(index));
+                    }
+                    break;
+                case 5:
+                    theList.addAll(index, new int[] {step, -step});
+                    expected.addAll(index, List.of(step, -step));
+                    break;
+                case 6:
+                    int to = Math.min(size, index + random.nextInt(4));
+                    theList.removeRange(index, to);
+                    expected.subList(index, to).clear();
+                    break;
+                case 7:
+                    if (step % 500 == 0) {
+                        theList.compact();
+                    }
+                    break;
+                default:
+                    if (index < size) {
+                        assertEquals((int) expected.get(index), theList.get(index));
+                    }
+            }
+        }
+
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), theList.toArray());
+        assertEquals(expected.size(), theList.stream().count());
+        assertEquals(expected.lastIndexOf(expected.get(0)), theList.lastIndexOf(expected.get(0)));
+    }
+
+    @Test
+    void iteratorsChangeInPlace() {
+        ArrayLinkedIntList theList = new ArrayLinkedIntList();
+        theList.addAll(new int[] {1, 2, 3, 4, 5});
+
+        IntIterator itr = theList.iterator();
+        while (itr.hasNext()) {
+            if (itr.nextInt() == 3) {
+                itr.remove();
+            }
+        }
+        IntListIterator cursor = theList.listIterator(theList.size());
+        while (cursor.hasPrevious()) {
+            int value = cursor.previousInt();
+            if (value == 4) {
+                cursor.remove();
+                cursor.add(40);
+            } else {
+                cursor.set(value * 10);
+            }
+        }
+        // the added 40 is in front of the cursor, so the walk back sets it too
+        assertEquals("[10, 20, 400, 50]", theList.toString());
+        assertEquals(0, cursor.nextIndex());
+        cursor.remove();                        // the 10 just set
+        assertThrows(IllegalStateException.class, cursor::remove);
+
+        assertTrue(theList.removeAll(20, 50));
+        theList.replaceAll(value -> value + 1);
+        assertEquals("[401]", theList.toString());
+    }
+
+    @Test
+    void sortKeepsNodesInPlace() {
+        ArrayLinkedIntList theList = new ArrayLinkedIntList();
+        theList.addAll(new int[] {5, 3, 9, 1});
+        theList.addFront(7);
+        theList.remove(2);
+
+        theList.sort();
+        assertEquals("[1, 5, 7, 9]", theList.toString());
+        theList.sort((a, b) -> Integer.compare(b, a));
+        assertEquals("[9, 7, 5, 1]", theList.toString());
+        theList.parallelSort();
+        theList.add(2, 6);
+        assertEquals("[1, 5, 6, 7, 9]", theList.toString());
+    }
+}
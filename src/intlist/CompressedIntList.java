@@ -0,0 +1,676 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList that stores its values compressed, in blocks of 128.
+ *
+ * Each full block is encoded on its own with whichever of two encodings
+ * is smaller for it:
+ *   frame of reference - the block minimum, then every value minus the
+ *     minimum packed into just enough bits (good for small-range values
+ *     such as counters; a block of values in [0, 15] takes 4 bits a value)
+ *   delta + varint - the first value, then the difference to the previous
+ *     value, zigzag encoded as a varint (good for sorted ids; a gap below
+ *     64 takes one byte)
+ * Values that fit neither pattern cost about the same as raw ints.
+ *
+ * The last, partly filled block (the tail) is kept as a raw int[128] and is
+ * encoded once it fills up, so addBack stays O(1). A skip index holds where
+ * each encoded block starts, so get(index) only looks at one block: a
+ * bit-packed block is read directly at the right bit position, and a
+ * delta-encoded block is decoded once and kept for the next get.
+ *
+ * That kept block is the only state get changes. It is replaced as one
+ * immutable object, never filled in place, so several threads may call
+ * get (and the other reads) at the same time, as on the other lists, as
+ * long as no thread is changing the list.
+ *
+ * Adding or removing anywhere but the back re-encodes every block from the
+ * one changed to the end: O(n) in the worst case.
+ */
+public class CompressedIntList implements IntList {
+    // Internal (private) representation
+    private byte[] data;                // the encoded blocks, one after the other
+    private int dataLength;             // bytes of data in use
+    private int[] blockStarts;          // skip index: where in data each block starts
+    private int blockCount;             // number of encoded blocks
+    private int[] tail;                 // the values after the last encoded block, raw
+    private int tailCount;              // values in tail, always less than BLOCK_SIZE
+
+    private DecodedBlock decoded;       // the last delta block decoded by get, null if none
+
+    private final static int BLOCK_SIZE = 128;
+    private final static int BLOCK_SHIFT = 7;
+
+    // first byte of every block
+    private final static byte FRAME_OF_REFERENCE = 0;
+    private final static byte DELTA_VARINT = 1;
+
+    // kind, bit width, then the minimum as a 4-byte int
+    private final static int FOR_HEADER_BYTES = 6;
+
+    public CompressedIntList() {
+        data = new byte[64];
+        blockStarts = new int[4];
+        tail = new int[BLOCK_SIZE];
+        decoded = null;
+    }
+
+    // makes sure data has room for count more bytes
+    private void ensureDataRoom(int count) {
+        long needed = (long) dataLength + count;
+        if (needed > data.length) {
+            if (needed > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Required size too large: " + needed);
+            }
+            data = Arrays.copyOf(data, (int) Math.min(Math.max(needed, 2L * data.length), Integer.MAX_VALUE - 8));
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // bytes a varint of value takes
+    private static int varintLength(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[dataLength++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[dataLength++] = (byte) value;
+    }
+
+    /*
+     * Encodes the full tail as a new block, with the smaller of the two
+     * encodings, and records its start in the skip index.
+     */
+    private void sealTail() {
+        int min = tail[0];
+        int max = tail[0];
+        int deltaBytes = 1 + varintLength(zigzag(tail[0]));
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            min = Math.min(min, tail[i]);
+            max = Math.max(max, tail[i]);
+            deltaBytes += varintLength(zigzag(tail[i] - tail[i - 1]));
+        }
+        // max - min wraps for wide ranges, but as an unsigned number it is right
+        int width = 32 - Integer.numberOfLeadingZeros(max - min);
+        int forBytes = FOR_HEADER_BYTES + ((BLOCK_SIZE * width + 7) >>> 3);
+
+        if (blockCount == blockStarts.length) {
+            blockStarts = Arrays.copyOf(blockStarts, blockCount * 2);
+        }
+        blockStarts[blockCount++] = dataLength;
+
+        if (forBytes <= deltaBytes) {
+            ensureDataRoom(forBytes);
+            data[dataLength++] = FRAME_OF_REFERENCE;
+            data[dataLength++] = (byte) width;
+            for (int shift = 0; shift < 32; shift += 8) {
+                data[dataLength++] = (byte) (min >>> shift);
+            }
+            long bits = 0;
+            int bitCount = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                bits |= ((tail[i] - min) & 0xFFFFFFFFL) << bitCount;
+                bitCount += width;
+                while (bitCount >= 8) {
+                    data[dataLength++] = (byte) bits;
+                    bits >>>= 8;
+                    bitCount -= 8;
+                }
+            }
+            if (bitCount > 0) {
+                data[dataLength++] = (byte) bits;
+            }
+        } else {
+            ensureDataRoom(deltaBytes);
+            data[dataLength++] = DELTA_VARINT;
+            writeVarint(zigzag(tail[0]));
+            for (int i = 1; i < BLOCK_SIZE; i++) {
+                writeVarint(zigzag(tail[i] - tail[i - 1]));
+            }
+        }
+        tailCount = 0;
+    }
+
+    // decodes block number block into out, starting at out[offset]
+    private void decodeBlock(int block, int[] out, int offset) {
+        int position = blockStarts[block];
+        if (data[position] == FRAME_OF_REFERENCE) {
+            int width = data[position + 1];
+            int min = readInt(position + 2);
+            position += FOR_HEADER_BYTES;
+            long mask = (1L << width) - 1;
+            long bits = 0;
+            int bitCount = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                while (bitCount < width) {
+                    bits |= (data[position++] & 0xFFL) << bitCount;
+                    bitCount += 8;
+                }
+                out[offset + i] = min + (int) (bits & mask);
+                bits >>>= width;
+                bitCount -= width;
+            }
+        } else {
+            position++;
+            int previous = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                // inline varint read
+                int raw = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    raw |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                previous += unzigzag(raw);
+                out[offset + i] = previous;
+            }
+        }
+    }
+
+    private int readInt(int position) {
+        return (data[position] & 0xFF) | (data[position + 1] & 0xFF) << 8
+                | (data[position + 2] & 0xFF) << 16 | (data[position + 3] & 0xFF) << 24;
+    }
+
+    // the value at index, which must be in an encoded block
+    private int readEncoded(int index) {
+        int block = index >>> BLOCK_SHIFT;
+        int position = blockStarts[block];
+        if (data[position] == FRAME_OF_REFERENCE) {
+            // read just this value's bits
+            int width = data[position + 1];
+            int bitPosition = (index & (BLOCK_SIZE - 1)) * width;
+            int start = position + FOR_HEADER_BYTES + (bitPosition >>> 3);
+            int skip = bitPosition & 7;
+            int bytes = (skip + width + 7) >>> 3;
+            long bits = 0;
+            for (int i = 0; i < bytes; i++) {
+                bits |= (data[start + i] & 0xFFL) << (8 * i);
+            }
+            return readInt(position + 2) + (int) ((bits >>> skip) & ((1L << width) - 1));
+        }
+        DecodedBlock cached = decoded;
+        if (cached == null || cached.block != block) {
+            int[] values = new int[BLOCK_SIZE];
+            decodeBlock(block, values, 0);
+            cached = new DecodedBlock(block, values);
+            decoded = cached;
+        }
+        return cached.values[index & (BLOCK_SIZE - 1)];
+    }
+
+    // a decoded block and its number, published together so a racing get never sees a torn pair
+    private static final class DecodedBlock {
+        final int block;
+        final int[] values;
+
+        DecodedBlock(int block, int[] values) {
+            this.block = block;
+            this.values = values;
+        }
+    }
+
+    // appends values[from, to) at the back, encoding blocks as they fill
+    private void appendRange(int[] values, int from, int to) {
+        while (from < to) {
+            int count = Math.min(to - from, BLOCK_SIZE - tailCount);
+            System.arraycopy(values, from, tail, tailCount, count);
+            tailCount += count;
+            from += count;
+            if (tailCount == BLOCK_SIZE) {
+                sealTail();
+            }
+        }
+    }
+
+    /*
+     * Decodes every value from block number block to the end, then cuts the
+     * list back to the blocks before it. The caller appends the values again
+     * after changing them.
+     */
+    private int[] cutFrom(int block) {
+        int from = block << BLOCK_SHIFT;
+        int[] rest = new int[size() - from];
+        for (int b = block; b < blockCount; b++) {
+            decodeBlock(b, rest, (b - block) << BLOCK_SHIFT);
+        }
+        System.arraycopy(tail, 0, rest, (blockCount - block) << BLOCK_SHIFT, tailCount);
+        dataLength = blockCount > block ? blockStarts[block] : dataLength;
+        blockCount = Math.min(blockCount, block);
+        tailCount = 0;
+        decoded = null;
+        return rest;
+    }
+
+    /**
+     * Returns the number of bytes of memory held by this list's arrays:
+     * the encoded blocks, the skip index and the raw tail.
+     * Compare with 4 * size() for a plain int[].
+     *
+     * @return the number of bytes used to store the values
+     */
+    public long memoryBytes() {
+        return (long) data.length + 4L * blockStarts.length + 4L * tail.length + 4L * BLOCK_SIZE;
+    }
+
+    /**
+     * Trims the capacity of the encoded data down to what is in use.
+     */
+    public void trimToSize() {
+        data = Arrays.copyOf(data, dataLength);
+        blockStarts = Arrays.copyOf(blockStarts, Math.max(blockCount, 1));
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     *
+     * Linear time - O(n), every block is encoded again
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * Constant time - O(1), with one block encoded every 128 values
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        tail[tailCount++] = value;
+        if (tailCount == BLOCK_SIZE) {
+            sealTail();
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * Linear time - O(n - index), the blocks from index on are encoded again
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int block = index >>> BLOCK_SHIFT;
+        if (block >= blockCount) {
+            // inside the tail, which always has room for one more
+            int offset = index & (BLOCK_SIZE - 1);
+            System.arraycopy(tail, offset, tail, offset + 1, tailCount - offset);
+            tail[offset] = value;
+            tailCount++;
+            if (tailCount == BLOCK_SIZE) {
+                sealTail();
+            }
+            return;
+        }
+        int[] rest = cutFrom(block);
+        int offset = index - (block << BLOCK_SHIFT);
+        appendRange(rest, 0, offset);
+        addBack(value);
+        appendRange(rest, offset, rest.length);
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     *
+     * Linear time - O(n), every block is encoded again
+     */
+    @Override
+    public void removeFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty");
+        }
+        remove(0);
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     *
+     * Constant time - O(1), with one block decoded every 128 removes
+     */
+    @Override
+    public void removeBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty");
+        }
+        if (tailCount == 0) {
+            // the last block becomes the raw tail again
+            decodeBlock(blockCount - 1, tail, 0);
+            blockCount--;
+            dataLength = blockStarts[blockCount];
+            tailCount = BLOCK_SIZE;
+            decoded = null;
+        }
+        tailCount--;
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * Linear time - O(n - index), the blocks from index on are encoded again
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int block = index >>> BLOCK_SHIFT;
+        if (block >= blockCount) {
+            int offset = index & (BLOCK_SIZE - 1);
+            int removedValue = tail[offset];
+            System.arraycopy(tail, offset + 1, tail, offset, tailCount - offset - 1);
+            tailCount--;
+            return removedValue;
+        }
+        int[] rest = cutFrom(block);
+        int offset = index - (block << BLOCK_SHIFT);
+        appendRange(rest, 0, offset);
+        appendRange(rest, offset + 1, rest.length);
+        return rest[offset];
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * Constant time - O(1), decodes at most one block
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if ((index >>> BLOCK_SHIFT) >= blockCount) {
+            return tail[index & (BLOCK_SIZE - 1)];
+        }
+        return readEncoded(index);
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * Linear time - O(n). Bit-packed blocks whose range cannot hold the
+     * value are skipped without decoding them.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int[] values = new int[BLOCK_SIZE];
+        for (int b = 0; b < blockCount; b++) {
+            int position = blockStarts[b];
+            if (data[position] == FRAME_OF_REFERENCE) {
+                int width = data[position + 1];
+                long offset = (value - readInt(position + 2)) & 0xFFFFFFFFL;
+                if (offset >= (1L << width)) {
+                    continue;
+                }
+            }
+            decodeBlock(b, values, 0);
+            int found = ScanKernels.indexOf(values, 0, BLOCK_SIZE, value);
+            if (found != -1) {
+                return (b << BLOCK_SHIFT) + found;
+            }
+        }
+        int found = ScanKernels.indexOf(tail, 0, tailCount, value);
+        return found == -1 ? -1 : (blockCount << BLOCK_SHIFT) + found;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return blockCount == 0 && tailCount == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return (blockCount << BLOCK_SHIFT) + tailCount;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        dataLength = 0;
+        blockCount = 0;
+        tailCount = 0;
+        decoded = null;
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        appendRange(values, 0, values.length);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list, encoding the blocks after index again once.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int block = index >>> BLOCK_SHIFT;
+        int[] rest = cutFrom(block);
+        int offset = index - (block << BLOCK_SHIFT);
+        appendRange(rest, 0, offset);
+        appendRange(values, 0, values.length);
+        appendRange(rest, offset, rest.length);
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive), encoding the blocks after fromIndex again once.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        int size = size();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex
+                    + ", Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int block = fromIndex >>> BLOCK_SHIFT;
+        int base = block << BLOCK_SHIFT;
+        int[] rest = cutFrom(block);
+        appendRange(rest, 0, fromIndex - base);
+        appendRange(rest, toIndex - base, rest.length);
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back. Blocks are decoded straight into the array.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size()];
+        for (int b = 0; b < blockCount; b++) {
+            decodeBlock(b, result, b << BLOCK_SHIFT);
+        }
+        System.arraycopy(tail, 0, result, blockCount << BLOCK_SHIFT, tailCount);
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, from front to back.
+     * It decodes one block at a time.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new CompressedIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values. Each block is
+     * decoded in one go.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int[] values = new int[BLOCK_SIZE];
+        for (int b = 0; b < blockCount; b++) {
+            decodeBlock(b, values, 0);
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                action.accept(values[i]);
+            }
+        }
+        for (int i = 0; i < tailCount; i++) {
+            action.accept(tail[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        IntIterator itr = iterator();
+        sb.append(itr.nextInt());
+        while (itr.hasNext()) {
+            sb.append(", ").append(itr.nextInt());
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class CompressedIterator implements IntIterator {
+        private int currentPosition;
+        private final int[] values = new int[BLOCK_SIZE];  // the decoded current block
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < size();
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int block = currentPosition >>> BLOCK_SHIFT;
+            int offset = currentPosition & (BLOCK_SIZE - 1);
+            currentPosition++;
+            if (block >= blockCount) {
+                return tail[offset];
+            }
+            if (offset == 0) {
+                decodeBlock(block, values, 0);
+            }
+            return values[offset];
+        }
+    }
+
+}       // end of CompressedIntList
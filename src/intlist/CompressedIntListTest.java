@@ -0,0 +1,145 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedIntListTest {
+
+    @Test
+    void sortedIdsUseDeltaEncoding() {
+        CompressedIntList theList = new CompressedIntList();
+        Random random = new Random(1);
+        int[] ids = new int[100_000];
+        int id = 1_000_000;
+        for (int i = 0; i < ids.length; i++) {
+            id += 1 + random.nextInt(50);
+            ids[i] = id;
+        }
+        theList.addAll(ids);
+        theList.trimToSize();
+
+        assertArrayEquals(ids, theList.toArray());
+        assertEquals(ids[54_321], theList.get(54_321));
+        assertEquals(54_321, theList.indexOf(ids[54_321]));
+        assertTrue(theList.memoryBytes() * 3 < 4L * ids.length);
+    }
+
+    @Test
+    void smallCountersUseBitPacking() {
+        CompressedIntList theList = new CompressedIntList();
+        Random random = new Random(2);
+        int[] counters = new int[100_000];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = 500 + random.nextInt(16);
+            theList.addBack(counters[i]);
+        }
+        theList.trimToSize();
+
+        for (int i = 0; i < counters.length; i += 13) {
+            assertEquals(counters[i], theList.get(i));
+        }
+        assertEquals(-1, theList.indexOf(499));
+        assertTrue(theList.memoryBytes() * 6 < 4L * counters.length);
+    }
+
+    @Test
+    void extremeValuesRoundTrip() {
+        CompressedIntList theList = new CompressedIntList();
+        int[] values = new int[300];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 3 == 0) ? Integer.MIN_VALUE : (i % 3 == 1) ? Integer.MAX_VALUE : 0;
+        }
+        theList.addAll(values);
+        assertArrayEquals(values, theList.toArray());
+        assertEquals(Integer.MAX_VALUE, theList.get(130));
+
+        int[] sevens = new int[256];
+        java.util.Arrays.fill(sevens, 7);      // zero-width blocks
+        theList.clear();
+        theList.addAll(sevens);
+        assertEquals(7, theList.get(200));
+        assertEquals(256, theList.count(7));
+    }
+
+    @Test
+    void randomEditsMatchArrayList() {
+        CompressedIntList theList = new CompressedIntList();
+        ArrayList<Integer> expected = new ArrayList<>();
+        Random random = new Random(3);
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(10);
+            int value = random.nextInt(1000);
+            if (op < 5 || expected.isEmpty()) {
+                theList.addBack(value);
+                expected.add(value);
+            } else if (op == 5) {
+                int index = random.nextInt(expected.size() + 1);
+                theList.add(index, value);
+                expected.add(index, value);
+            } else if (op == 6) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), theList.remove(index));
+            } else if (op == 7) {
+                theList.removeBack();
+                expected.remove(expected.size() - 1);
+            } else if (op == 8) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), theList.get(index));
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = Math.min(expected.size(), from + random.nextInt(20));
+                theList.removeRange(from, to);
+                expected.subList(from, to).clear();
+            }
+            assertEquals(expected.size(), theList.size());
+        }
+
+        int[] values = expected.stream().mapToInt(Integer::intValue).toArray();
+        assertArrayEquals(values, theList.toArray());
+        StringBuilder sb = new StringBuilder();
+        theList.forEachInt(v -> sb.append(v).append(' '));
+        StringBuilder expectedText = new StringBuilder();
+        expected.forEach(v -> expectedText.append(v).append(' '));
+        assertEquals(expectedText.toString(), sb.toString());
+    }
+
+    @Test
+    void concurrentReadsSeeTheirOwnBlock() throws InterruptedException {
+        CompressedIntList theList = new CompressedIntList();
+        for (int i = 0; i < 128 * 64; i++) {
+            theList.addBack(i * 3);             // sorted ids: delta blocks, decoded by get
+        }
+        java.util.concurrent.atomic.AtomicBoolean failed = new java.util.concurrent.atomic.AtomicBoolean();
+        Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            int seed = t;
+            readers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int round = 0; round < 200_000; round++) {
+                    int index = random.nextInt(theList.size());     // a new block almost every time
+                    if (theList.get(index) != index * 3) {
+                        failed.set(true);
+                    }
+                }
+            });
+            readers[t].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertFalse(failed.get());
+    }
+
+    @Test
+    void removeFromEmptyList() {
+        CompressedIntList theList = new CompressedIntList();
+        assertThrows(NoSuchElementException.class, theList::removeBack);
+        assertThrows(NoSuchElementException.class, theList::removeFront);
+        assertEquals("[]", theList.toString());
+    }
+}
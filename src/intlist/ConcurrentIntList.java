@@ -0,0 +1,731 @@
+package intlist;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A thread-safe IntList with the same layout as ArrayIntList: one int[]
+ * buffer and a size.
+ *
+ * Reads (get, contains, indexOf, size, ...) do not block each other and do
+ * not block writers. They use StampedLock optimistic reads: the value is read
+ * without a lock and then validated; only if a writer got in between is the
+ * read repeated under the read lock. In read-mostly workloads almost every
+ * read finishes without touching the lock at all.
+ *
+ * Every structural change (adds, removes, clear) takes the write lock, so
+ * each method call is atomic. Compound operations that would otherwise need
+ * an external lock are provided as single calls: addIfAbsent(value) and
+ * compareAndSet(index, expect, update).
+ *
+ * Iteration works on a snapshot taken when iterator(), spliterator() or
+ * forEachInt() is called. It never throws because of concurrent changes and
+ * does not see changes made after the snapshot.
+ */
+public class ConcurrentIntList implements IntList {
+    // Internal (private) representation, guarded by lock
+    private int[] buffer;
+    private int size;                   // number of "spots used" in the buffer
+
+    private final StampedLock lock = new StampedLock();
+
+    private final static int INITIAL_CAPACITY = 10;
+
+    // some VMs reserve a few header words in an array, so stay a bit below Integer.MAX_VALUE
+    private final static int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    public ConcurrentIntList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose buffer already has room for
+     * initialCapacity values.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     * or greater than the maximum array size
+     */
+    public ConcurrentIntList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        buffer = new int[initialCapacity];
+        size = 0;
+    }
+
+    // a read-only look at the buffer and its first size values
+    private interface BufferReader {
+        int read(int[] values, int size);
+    }
+
+    /*
+     * Runs reader optimistically, without locking, and returns its result if no
+     * writer got in meanwhile; otherwise runs it again under the read lock.
+     * In the optimistic pass the values may be torn by a concurrent write, so
+     * reader must not throw or loop on them; size is clamped to the buffer
+     * length so reader never indexes past the array.
+     */
+    private int read(BufferReader reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int[] values = buffer;
+            int result = reader.read(values, Math.min(size, values.length));
+            if (lock.validate(stamp)) {
+                return result;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.read(buffer, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // copies out the values, optimistically first
+    private int[] snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int[] values = buffer;
+            int[] copy = Arrays.copyOf(values, Math.min(size, values.length));
+            if (lock.validate(stamp)) {
+                return copy;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(buffer, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // makes sure there is room for count more values; caller holds the write lock
+    private void ensureRoomFor(int count) {
+        long needed = (long) size + count;
+        if (needed > buffer.length) {
+            if (needed > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required capacity too large: " + needed);
+            }
+            buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(needed, 2L * buffer.length), MAX_CAPACITY));
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * Linear time - O(n), under the write lock
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * Constant time - O(1) (amortized), under the write lock
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        long stamp = lock.writeLock();
+        try {
+            ensureRoomFor(1);
+            buffer[size] = value;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            ensureRoomFor(1);
+            System.arraycopy(buffer, index, buffer, index + 1, size - index);
+            buffer[index] = value;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends the specified value at the back of the list unless the list
+     * already contains it. The check and the add happen atomically.
+     *
+     * Linear time - O(n), the scan runs under the read lock, which is only
+     * upgraded to the write lock when the value has to be added
+     *
+     * @param value value to be added if absent
+     * @return true if the value was added, false if it was already present
+     */
+    public boolean addIfAbsent(int value) {
+        long stamp = lock.readLock();
+        try {
+            while (true) {
+                if (ScanKernels.indexOf(buffer, 0, size, value) != -1) {
+                    return false;
+                }
+                long writeStamp = lock.tryConvertToWriteLock(stamp);
+                if (writeStamp != 0L) {
+                    stamp = writeStamp;
+                    ensureRoomFor(1);
+                    buffer[size] = value;
+                    size++;
+                    return true;
+                }
+                // another reader holds the lock, so take the write lock and look again
+                lock.unlockRead(stamp);
+                stamp = lock.writeLock();
+            }
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Replaces the value at the specified position with update, but only if
+     * it currently equals expect. The check and the write happen atomically.
+     *
+     * @param index index of the value to replace
+     * @param expect the value expected at that position
+     * @param update the new value
+     * @return true if the value was replaced, false if it was not equal to expect
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean compareAndSet(int index, int expect, int update) {
+        long stamp = lock.readLock();
+        try {
+            while (true) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                if (buffer[index] != expect) {
+                    return false;
+                }
+                long writeStamp = lock.tryConvertToWriteLock(stamp);
+                if (writeStamp != 0L) {
+                    stamp = writeStamp;
+                    buffer[index] = update;
+                    return true;
+                }
+                lock.unlockRead(stamp);
+                stamp = lock.writeLock();
+            }
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException("List is empty");
+            }
+            System.arraycopy(buffer, 1, buffer, 0, size - 1);
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException("List is empty");
+            }
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            int removedValue = buffer[index];
+            System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+            size--;
+            return removedValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * Constant time - O(1), usually without taking the lock
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int[] values = buffer;
+        int currentSize = size;
+        int value = (index >= 0 && index < currentSize && index < values.length) ? values[index] : 0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                value = (index >= 0 && index < currentSize) ? buffer[index] : 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + currentSize);
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * Linear time - O(n), usually without taking the lock
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        return read((values, n) -> ScanKernels.indexOf(values, 0, n, value));
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence, or -1
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        return read((values, n) -> ScanKernels.lastIndexOf(values, 0, n, value));
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of the value
+     */
+    @Override
+    public int count(int value) {
+        return read((values, n) -> ScanKernels.count(values, 0, n, value));
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list,
+     * as one atomic change.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        long stamp = lock.writeLock();
+        try {
+            ensureRoomFor(values.length);
+            System.arraycopy(values, 0, buffer, size, values.length);
+            size += values.length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list, as one atomic change.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            ensureRoomFor(values.length);
+            System.arraycopy(buffer, index, buffer, index + values.length, size - index);
+            System.arraycopy(values, 0, buffer, index, values.length);
+            size += values.length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive), as one atomic change.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex
+                        + ", Size: " + size);
+            }
+            System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes every value that satisfies the given predicate, keeping the
+     * order of the others, as one atomic change.
+     *
+     * Linear time - O(n), a two-finger compaction under the write lock.
+     * The filter runs while the lock is held, so it must not call back
+     * into this list (the lock is not reentrant).
+     *
+     * @param filter returns true for the values to be removed
+     * @return true if any value was removed
+     * @throws NullPointerException if the filter is null
+     */
+    @Override
+    public boolean removeIf(IntPredicate filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        long stamp = lock.writeLock();
+        int oldSize = size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < size; read++) {
+                int value = buffer[read];
+                if (!filter.test(value)) {
+                    buffer[write++] = value;
+                }
+            }
+        } finally {
+            // the filter threw: close the gap in front of the untested values
+            if (read < size) {
+                System.arraycopy(buffer, read, buffer, write, size - read);
+                write += size - read;
+            }
+            size = write;
+            lock.unlockWrite(stamp);
+        }
+        return write != oldSize;        // locals: size may already have changed again
+    }
+
+    /**
+     * Replaces each value with the result of applying the operator to it,
+     * front to back, as one atomic change.
+     *
+     * Linear time - O(n), under the write lock. The operator must not call
+     * back into this list.
+     *
+     * @param operator the operator to apply to each value
+     * @throws NullPointerException if the operator is null
+     */
+    @Override
+    public void replaceAll(IntUnaryOperator operator) {
+        if (operator == null) {
+            throw new NullPointerException();
+        }
+        long stamp = lock.writeLock();
+        try {
+            for (int i = 0; i < size; i++) {
+                buffer[i] = operator.applyAsInt(buffer[i]);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the values of this list in ascending order, in place, as one
+     * atomic change.
+     *
+     * O(n log n), under the write lock
+     */
+    @Override
+    public void sort() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.sort(buffer, 0, size);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the values of this list in the order the comparator gives, as
+     * one atomic change. The comparator must not call back into this list.
+     *
+     * @param comparator decides the order of two values
+     * @throws NullPointerException if the comparator is null
+     */
+    @Override
+    public void sort(IntComparator comparator) {
+        long stamp = lock.writeLock();
+        try {
+            IntSorting.sort(buffer, 0, size, comparator);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the values of this list in ascending order, in place, on the
+     * common fork-join pool, as one atomic change. Writers wait until the
+     * sort is done; optimistic readers retry under the read lock and wait too.
+     */
+    @Override
+    public void parallelSort() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.parallelSort(buffer, 0, size);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Writes the values of this list, as they were at one moment, to a
+     * channel in the binary format of IntListCodec. The snapshot is taken
+     * first, so no lock is held during I/O.
+     *
+     * @param channel a blocking channel to write to; it is not closed
+     * @throws IOException if writing to the channel fails
+     */
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        int[] values = snapshot();
+        IntListCodec.write(values, 0, values.length, channel, true);
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back, as they were at one moment.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        return snapshot();
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the values in this list.
+     * Changes made to the list afterwards are not seen by the iterator.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new SnapshotIterator(snapshot());
+    }
+
+    /**
+     * Returns a cursor over the live list (not a snapshot) that starts in
+     * front of the value at the specified index. Each step is one atomic
+     * call on the list; set(value) overwrites the value under the write
+     * lock, so readers never see it missing.
+     *
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before that value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public IntListIterator listIterator(int index) {
+        return new PositionalListIterator(this, index) {
+            @Override
+            public void set(int value) {
+                replace(lastReturnedIndex(), value);
+            }
+        };
+    }
+
+    // overwrites the value at index in one step under the write lock
+    private void replace(int index, int value) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            buffer[index] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the values in this list.
+     * It splits by index range and is IMMUTABLE as well as
+     * SIZED, SUBSIZED and ORDERED.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(snapshot());
+    }
+
+    // nested or inner class (helper class)
+    public static class SnapshotIterator implements IntIterator {
+        private final int[] values;
+        private int currentPosition;
+
+        SnapshotIterator(int[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < values.length;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return values[currentPosition++];
+        }
+    }
+
+}       // end of ConcurrentIntList
@@ -0,0 +1,214 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentIntListTest {
+
+    // starts threads running task at the same moment and waits for all of them
+    private static void runTogether(int threads, Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> started = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                task.run();
+            });
+            thread.start();
+            started.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : started) {
+            thread.join();
+        }
+    }
+
+    @Test
+    void behavesLikeAList() {
+        ConcurrentIntList theList = new ConcurrentIntList(2);
+        theList.addBack(2);
+        theList.addFront(0);
+        theList.add(1, 1);
+        theList.addAll(new int[] {3, 4, 5});
+        assertEquals("[0, 1, 2, 3, 4, 5]", theList.toString());
+
+        assertEquals(3, theList.remove(3));
+        theList.removeFront();
+        theList.removeBack();
+        assertArrayEquals(new int[] {1, 2, 4}, theList.toArray());
+        assertEquals(2, theList.indexOf(4));
+        assertFalse(theList.contains(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.get(3));
+
+        theList.clear();
+        assertTrue(theList.isEmpty());
+        assertThrows(NoSuchElementException.class, theList::removeBack);
+    }
+
+    @Test
+    void compoundOperations() {
+        ConcurrentIntList theList = new ConcurrentIntList();
+        assertTrue(theList.addIfAbsent(7));
+        assertFalse(theList.addIfAbsent(7));
+        assertTrue(theList.addIfAbsent(8));
+
+        assertTrue(theList.compareAndSet(0, 7, 70));
+        assertFalse(theList.compareAndSet(0, 7, 700));
+        assertEquals("[70, 8]", theList.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.compareAndSet(2, 0, 1));
+    }
+
+    @Test
+    void iteratorWorksOnASnapshot() {
+        ConcurrentIntList theList = new ConcurrentIntList();
+        theList.addAll(new int[] {1, 2, 3});
+        IntIterator itr = theList.iterator();
+        theList.clear();
+
+        int sum = 0;
+        while (itr.hasNext()) {
+            sum += itr.nextInt();
+        }
+        assertEquals(6, sum);
+        assertEquals(0, theList.stream().count());
+    }
+
+    @Test
+    void addIfAbsentAddsEachValueOnce() throws InterruptedException {
+        ConcurrentIntList theList = new ConcurrentIntList();
+        runTogether(8, () -> {
+            for (int i = 0; i < 500; i++) {
+                theList.addIfAbsent(i);
+            }
+        });
+
+        assertEquals(500, theList.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(1, theList.count(i));
+        }
+    }
+
+    @Test
+    void compareAndSetLosesNoUpdates() throws InterruptedException {
+        ConcurrentIntList theList = new ConcurrentIntList();
+        theList.addBack(0);
+        runTogether(8, () -> {
+            for (int i = 0; i < 1000; i++) {
+                int current;
+                do {
+                    current = theList.get(0);
+                } while (!theList.compareAndSet(0, current, current + 1));
+            }
+        });
+
+        assertEquals(8000, theList.get(0));
+    }
+
+    @Test
+    void readersNeverSeeATornList() throws InterruptedException {
+        ConcurrentIntList theList = new ConcurrentIntList();
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+
+        // every value in the list equals its index, so any read can be checked
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < 1000; i++) {
+                    theList.addBack(i);
+                }
+                theList.clear();
+            }
+            done.set(true);
+        });
+        writer.start();
+        runTogether(4, () -> {
+            while (!done.get()) {
+                int[] values = theList.toArray();
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != i) {
+                        failed.set(true);
+                    }
+                }
+                int index = theList.indexOf(500);
+                if (index != -1 && index != 500) {
+                    failed.set(true);
+                }
+            }
+        });
+        writer.join();
+
+        assertFalse(failed.get());
+    }
+
+    @Test
+    void removeIfIsAtomic() throws InterruptedException {
+        ConcurrentIntList theList = new ConcurrentIntList();
+        for (int i = 0; i < 10_000; i++) {
+            theList.addBack(i);
+        }
+        AtomicBoolean failed = new AtomicBoolean();
+
+        // readers never see a half-compacted list: the values stay ascending
+        Thread filter = new Thread(() -> {
+            theList.removeIf(value -> value % 2 == 1);
+            theList.replaceAll(value -> value / 2);
+        });
+        filter.start();
+        runTogether(2, () -> {
+            for (int round = 0; round < 50; round++) {
+                int[] values = theList.toArray();
+                for (int i = 1; i < values.length; i++) {
+                    if (values[i] <= values[i - 1]) {
+                        failed.set(true);
+                    }
+                }
+            }
+        });
+        filter.join();
+
+        assertFalse(failed.get());
+        assertEquals(5_000, theList.size());
+        assertEquals(4_999, theList.get(4_999));
+        assertTrue(theList.removeAll(0, 4_999));
+        assertEquals(4_998, theList.size());
+    }
+
+    @Test
+    void listIteratorSetsInPlace() throws InterruptedException {
+        ConcurrentIntList theList = new ConcurrentIntList();
+        for (int i = 0; i < 100; i++) {
+            theList.addBack(i);
+        }
+        AtomicBoolean failed = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            for (int round = 0; round < 20_000; round++) {
+                if (theList.size() != 100) {
+                    failed.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int round = 0; round < 50; round++) {
+            IntListIterator cursor = theList.listIterator();
+            while (cursor.hasNext()) {
+                cursor.set(cursor.nextInt() + 1);
+            }
+        }
+        reader.join();
+
+        assertFalse(failed.get());
+        assertEquals(50, theList.get(0));
+        assertEquals(149, theList.get(99));
+    }
+}
@@ -0,0 +1,56 @@
+package intlist;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Helper for releasing direct and memory-mapped buffers.
+ *
+ * The JDK only frees the memory (or the file mapping) behind such a buffer
+ * once the garbage collector finds the buffer unreachable. free() does it
+ * right away through sun.misc.Unsafe.invokeCleaner, which lives in the
+ * jdk.unsupported module and needs no extra flags. If that is not available
+ * the buffer is simply left for the garbage collector.
+ */
+final class DirectBuffers {
+
+    private final static Object UNSAFE;
+    private final static Method CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method cleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            cleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            cleaner = null;
+        }
+        UNSAFE = unsafe;
+        CLEANER = cleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Frees the memory behind a direct buffer. The buffer, and every view
+     * of it, must never be used again after this call.
+     * @param buffer a direct buffer that is not a slice or duplicate
+     */
+    static void free(ByteBuffer buffer) {
+        if (CLEANER == null || buffer == null) {
+            return;
+        }
+        try {
+            CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // leave it to the garbage collector
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package intlist;
+
+/**
+ * Decides how large the new buffer of an ArrayIntList should be
+ * when the current one is full.
+ *
+ * A policy only suggests a capacity. The list always grows to at least
+ * the capacity it needs and never past its maximum array size, so a policy
+ * does not have to worry about overflow or about returning too little.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Returns the capacity the buffer should grow to.
+     * @param currentCapacity the length of the current buffer
+     * @param minCapacity the smallest capacity that holds all the values
+     * @return the suggested new capacity
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns a policy that doubles the capacity each time (the default).
+     * Fewest resizes, but up to half of the buffer may be unused.
+     * @return the doubling policy
+     */
+    static GrowthPolicy doubling() {
+        return factor(2.0);
+    }
+
+    /**
+     * Returns a policy that multiplies the capacity by the given factor,
+     * for example 1.5 to waste less memory at the cost of more resizes.
+     * @param factor the growth factor, greater than 1
+     * @return a policy that grows by the given factor
+     * @throws IllegalArgumentException if the factor is not greater than 1
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be > 1: " + factor);
+        }
+        return (currentCapacity, minCapacity) ->
+                saturate(Math.max((long) (currentCapacity * factor), minCapacity));
+    }
+
+    /**
+     * Returns a policy that adds the same number of spots each time.
+     * Memory use stays tight, but building a list of n values
+     * costs O(n^2 / increment) copying.
+     * @param increment the number of spots to add, greater than 0
+     * @return a policy that grows by a fixed increment
+     * @throws IllegalArgumentException if the increment is not greater than 0
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment must be > 0: " + increment);
+        }
+        return (currentCapacity, minCapacity) ->
+                saturate(Math.max((long) currentCapacity + increment, minCapacity));
+    }
+
+    /**
+     * Returns a policy that doubles the capacity while the buffer is small,
+     * but never adds more than maxIncrement spots at once. That bounds the
+     * unused tail of very large buffers.
+     * @param maxIncrement the most spots to add in one resize, greater than 0
+     * @return a doubling policy with a capped increment
+     * @throws IllegalArgumentException if maxIncrement is not greater than 0
+     */
+    static GrowthPolicy capped(int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Max increment must be > 0: " + maxIncrement);
+        }
+        return (currentCapacity, minCapacity) ->
+                saturate(Math.max((long) currentCapacity + Math.min(currentCapacity, maxIncrement),
+                        minCapacity));
+    }
+
+    // clamps a capacity computed in long arithmetic to the int range
+    private static int saturate(long capacity) {
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+}
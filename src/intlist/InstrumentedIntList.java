@@ -0,0 +1,410 @@
+package intlist;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import intlist.IntListMetrics.Operation;
+
+/**
+ * An IntList that passes every call on to another IntList and records it
+ * in an IntListMetrics: how often each operation is called, how long it
+ * takes, and the largest size the list reaches.
+ *
+ * If the wrapped list is an ArrayIntList or a LinkedIntList that reports
+ * to no metrics yet, it is also handed the metrics, so resizes, shifted
+ * values and link traversals show up next to the operation counts. A list
+ * that already has metrics keeps them. The wrapped list goes on reporting
+ * after the wrapper is dropped; call its setMetrics(null) to stop it.
+ *
+ * Every call is timed with System.nanoTime(), which costs some tens of
+ * nanoseconds: fine for finding out which lists a call site needs, too
+ * much to leave on a hot path for good. For always-on numbers use the
+ * built-in counters alone (ArrayIntList.setMetrics, LinkedIntList.setMetrics).
+ * size() and isEmpty() are passed on without being recorded.
+ */
+public class InstrumentedIntList implements IntList {
+    // Internal (private) representation
+    private final IntList delegate;
+    private final IntListMetrics metrics;
+
+    /**
+     * Wraps a list with new metrics of its own.
+     *
+     * @param delegate the list to pass calls on to
+     * @throws NullPointerException if delegate is null
+     */
+    public InstrumentedIntList(IntList delegate) {
+        this(delegate, new IntListMetrics());
+    }
+
+    /**
+     * Wraps a list, recording into the given metrics. Several lists can
+     * share one metrics object, for example all the lists of one call site.
+     * An ArrayIntList or LinkedIntList delegate without metrics of its own
+     * starts reporting its internals into them as well.
+     *
+     * @param delegate the list to pass calls on to
+     * @param metrics the metrics to record into
+     * @throws NullPointerException if delegate or metrics is null
+     */
+    public InstrumentedIntList(IntList delegate, IntListMetrics metrics) {
+        if (delegate == null || metrics == null) {
+            throw new NullPointerException();
+        }
+        this.delegate = delegate;
+        this.metrics = metrics;
+        // the lists with built-in counters report their internals too, unless
+        // someone else already listens to them
+        if (delegate instanceof ArrayIntList) {
+            ArrayIntList array = (ArrayIntList) delegate;
+            if (array.getMetrics() == null) {
+                array.setMetrics(metrics);
+            }
+        } else if (delegate instanceof LinkedIntList) {
+            LinkedIntList linked = (LinkedIntList) delegate;
+            if (linked.getMetrics() == null) {
+                linked.setMetrics(metrics);
+            }
+        }
+        metrics.recordSize(delegate.size());
+    }
+
+    /**
+     * Returns the metrics this list records into.
+     *
+     * @return the metrics
+     */
+    public IntListMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the wrapped list. Calls made on it directly are not counted.
+     *
+     * @return the wrapped list
+     */
+    public IntList delegate() {
+        return delegate;
+    }
+
+    private void done(Operation operation, long start) {
+        metrics.recordOperation(operation, System.nanoTime() - start);
+    }
+
+    // after an add, for the peak size
+    private void grown(Operation operation, long start) {
+        done(operation, start);
+        metrics.recordSize(delegate.size());
+    }
+
+    @Override
+    public void addFront(int value) {
+        long start = System.nanoTime();
+        try {
+            delegate.addFront(value);
+        } finally {
+            grown(Operation.ADD_FRONT, start);
+        }
+    }
+
+    @Override
+    public void addBack(int value) {
+        long start = System.nanoTime();
+        try {
+            delegate.addBack(value);
+        } finally {
+            grown(Operation.ADD_BACK, start);
+        }
+    }
+
+    @Override
+    public void add(int index, int value) {
+        long start = System.nanoTime();
+        try {
+            delegate.add(index, value);
+        } finally {
+            grown(Operation.ADD, start);
+        }
+    }
+
+    @Override
+    public void addAll(int[] values) {
+        long start = System.nanoTime();
+        try {
+            delegate.addAll(values);
+        } finally {
+            grown(Operation.ADD_ALL, start);
+        }
+    }
+
+    @Override
+    public void addAll(IntList other) {
+        // unwrap, so an instrumented list added to itself is copied only once
+        IntList source = (other instanceof InstrumentedIntList) ? ((InstrumentedIntList) other).delegate : other;
+        long start = System.nanoTime();
+        try {
+            delegate.addAll(source);
+        } finally {
+            grown(Operation.ADD_ALL, start);
+        }
+    }
+
+    @Override
+    public void addAll(int index, int[] values) {
+        long start = System.nanoTime();
+        try {
+            delegate.addAll(index, values);
+        } finally {
+            grown(Operation.ADD_ALL, start);
+        }
+    }
+
+    @Override
+    public void removeFront() {
+        long start = System.nanoTime();
+        try {
+            delegate.removeFront();
+        } finally {
+            done(Operation.REMOVE_FRONT, start);
+        }
+    }
+
+    @Override
+    public void removeBack() {
+        long start = System.nanoTime();
+        try {
+            delegate.removeBack();
+        } finally {
+            done(Operation.REMOVE_BACK, start);
+        }
+    }
+
+    @Override
+    public int remove(int index) {
+        long start = System.nanoTime();
+        try {
+            return delegate.remove(index);
+        } finally {
+            done(Operation.REMOVE, start);
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long start = System.nanoTime();
+        try {
+            delegate.removeRange(fromIndex, toIndex);
+        } finally {
+            done(Operation.REMOVE_RANGE, start);
+        }
+    }
+
+    /**
+     * Passes the call on to the wrapped list. retainAll and removeAll
+     * reach here too, so they are counted as REMOVE_IF.
+     */
+    @Override
+    public boolean removeIf(IntPredicate filter) {
+        long start = System.nanoTime();
+        try {
+            return delegate.removeIf(filter);
+        } finally {
+            done(Operation.REMOVE_IF, start);
+        }
+    }
+
+    @Override
+    public void replaceAll(IntUnaryOperator operator) {
+        long start = System.nanoTime();
+        try {
+            delegate.replaceAll(operator);
+        } finally {
+            done(Operation.REPLACE_ALL, start);
+        }
+    }
+
+    @Override
+    public void sort() {
+        long start = System.nanoTime();
+        try {
+            delegate.sort();
+        } finally {
+            done(Operation.SORT, start);
+        }
+    }
+
+    @Override
+    public void sort(IntComparator comparator) {
+        long start = System.nanoTime();
+        try {
+            delegate.sort(comparator);
+        } finally {
+            done(Operation.SORT, start);
+        }
+    }
+
+    @Override
+    public void parallelSort() {
+        long start = System.nanoTime();
+        try {
+            delegate.parallelSort();
+        } finally {
+            done(Operation.SORT, start);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long start = System.nanoTime();
+        try {
+            delegate.clear();
+        } finally {
+            done(Operation.CLEAR, start);
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        long start = System.nanoTime();
+        try {
+            return delegate.get(index);
+        } finally {
+            done(Operation.GET, start);
+        }
+    }
+
+    @Override
+    public boolean contains(int value) {
+        long start = System.nanoTime();
+        try {
+            return delegate.contains(value);
+        } finally {
+            done(Operation.CONTAINS, start);
+        }
+    }
+
+    @Override
+    public int indexOf(int value) {
+        long start = System.nanoTime();
+        try {
+            return delegate.indexOf(value);
+        } finally {
+            done(Operation.INDEX_OF, start);
+        }
+    }
+
+    @Override
+    public int lastIndexOf(int value) {
+        long start = System.nanoTime();
+        try {
+            return delegate.lastIndexOf(value);
+        } finally {
+            done(Operation.LAST_INDEX_OF, start);
+        }
+    }
+
+    @Override
+    public int count(int value) {
+        long start = System.nanoTime();
+        try {
+            return delegate.count(value);
+        } finally {
+            done(Operation.COUNT, start);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int[] toArray() {
+        long start = System.nanoTime();
+        try {
+            return delegate.toArray();
+        } finally {
+            done(Operation.TO_ARRAY, start);
+        }
+    }
+
+    /**
+     * Returns the wrapped list's iterator. Creating it counts as one
+     * ITERATE; the time spent iterating is not measured.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        long start = System.nanoTime();
+        try {
+            return delegate.iterator();
+        } finally {
+            done(Operation.ITERATE, start);
+        }
+    }
+
+    /**
+     * Returns the wrapped list's cursor, so a list with a cursor of its
+     * own keeps it. Creating it counts as one ITERATE; the steps and
+     * changes made through it are not counted.
+     *
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before that value
+     */
+    @Override
+    public IntListIterator listIterator(int index) {
+        long start = System.nanoTime();
+        try {
+            return delegate.listIterator(index);
+        } finally {
+            done(Operation.ITERATE, start);
+        }
+    }
+
+    /**
+     * Returns the wrapped list's spliterator, which keeps its splitting
+     * behaviour. Creating it counts as one ITERATE.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        long start = System.nanoTime();
+        try {
+            return delegate.spliterator();
+        } finally {
+            done(Operation.ITERATE, start);
+        }
+    }
+
+    /**
+     * Passes every value to the action through the wrapped list. The
+     * whole walk counts as one ITERATE and is timed.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        long start = System.nanoTime();
+        try {
+            delegate.forEachInt(action);
+        } finally {
+            done(Operation.ITERATE, start);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+}       // end of InstrumentedIntList
@@ -0,0 +1,149 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.NoSuchElementException;
+
+import intlist.IntListMetrics.Operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedIntListTest {
+
+    @Test
+    void countsOperations() {
+        InstrumentedIntList theList = new InstrumentedIntList(new ArrayDequeIntList());
+        theList.addBack(1);
+        theList.addBack(2);
+        theList.addFront(0);
+        theList.get(1);
+        theList.contains(5);
+        theList.removeBack();
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.get(10));
+
+        IntListMetrics.Snapshot snapshot = theList.metrics().snapshot();
+        assertEquals(2, snapshot.count(Operation.ADD_BACK));
+        assertEquals(1, snapshot.count(Operation.ADD_FRONT));
+        assertEquals(2, snapshot.count(Operation.GET));         // failed calls count too
+        assertEquals(1, snapshot.count(Operation.CONTAINS));
+        assertEquals(1, snapshot.count(Operation.REMOVE_BACK));
+        assertEquals(7, snapshot.totalCount());
+        assertEquals(3, snapshot.peakSize());
+        assertEquals(2, java.util.Arrays.stream(snapshot.latencyHistogram(Operation.ADD_BACK)).sum());
+        assertEquals("[0, 1]", theList.toString());
+    }
+
+    @Test
+    void arrayListReportsResizesAndShifts() {
+        IntListMetrics metrics = new IntListMetrics();
+        InstrumentedIntList theList = new InstrumentedIntList(new ArrayIntList(4), metrics);
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);                 // 4 -> 8 -> 16
+        }
+        theList.addFront(-1);                   // shifts 10 values
+        theList.remove(5);                      // shifts 5 values
+
+        IntListMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.resizeCount());
+        assertEquals(12, snapshot.valuesCopiedByResize());
+        assertEquals(16, snapshot.peakCapacity());
+        assertEquals(2, snapshot.shiftCount());
+        assertEquals(15, snapshot.valuesShifted());
+        assertEquals(10, snapshot.maxShiftDistance());
+    }
+
+    @Test
+    void linkedListReportsTraversals() {
+        IntListMetrics metrics = new IntListMetrics();
+        InstrumentedIntList theList = new InstrumentedIntList(new LinkedIntList(), metrics);
+        for (int i = 0; i < 100; i++) {
+            theList.addBack(i);
+        }
+        theList.get(10);                        // 10 links from the head
+        theList.get(80);                        // 19 links from the tail
+        theList.indexOf(42);
+
+        IntListMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(3, snapshot.traversalCount());
+        assertEquals(10 + 19 + 42, snapshot.traversalSteps());
+        assertEquals(42, snapshot.maxTraversalSteps());
+    }
+
+    @Test
+    void keepsMetricsTheListAlreadyHas() {
+        IntListMetrics own = new IntListMetrics();
+        ArrayIntList array = new ArrayIntList(4);
+        array.setMetrics(own);
+        LinkedIntList linked = new LinkedIntList();
+        linked.setMetrics(own);
+
+        IntListMetrics metrics = new IntListMetrics();
+        InstrumentedIntList wrappedArray = new InstrumentedIntList(array, metrics);
+        InstrumentedIntList wrappedLinked = new InstrumentedIntList(linked, metrics);
+        assertSame(own, array.getMetrics());
+        assertSame(own, linked.getMetrics());
+        for (int i = 0; i < 10; i++) {
+            wrappedArray.addBack(i);            // 4 -> 8 -> 16
+            wrappedLinked.addBack(i);
+        }
+        wrappedLinked.get(3);
+
+        assertEquals(2, own.snapshot().resizeCount());
+        assertEquals(1, own.snapshot().traversalCount());
+        assertEquals(0, metrics.snapshot().resizeCount());
+        assertEquals(0, metrics.snapshot().traversalCount());
+
+        // a list without metrics gets the wrapper's
+        ArrayIntList fresh = new ArrayIntList();
+        new InstrumentedIntList(fresh, metrics);
+        assertSame(metrics, fresh.getMetrics());
+    }
+
+    @Test
+    void resetAndPercentiles() {
+        IntListMetrics metrics = new IntListMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.recordOperation(Operation.GET, 10);         // bucket [8, 16)
+        }
+        metrics.recordOperation(Operation.GET, 5000);           // bucket [4096, 8192)
+
+        IntListMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(15, snapshot.latencyPercentileNanos(Operation.GET, 0.99));
+        assertEquals(8191, snapshot.latencyPercentileNanos(Operation.GET, 1.0));
+        assertEquals(0, snapshot.latencyPercentileNanos(Operation.ADD, 0.5));
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().totalCount());
+    }
+
+    @Test
+    void exposedOverJmx() throws Exception {
+        InstrumentedIntList theList = new InstrumentedIntList(new ArrayIntList());
+        theList.addBack(7);
+        ObjectName name = theList.metrics().register("test list");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(name, "PeakSize"));
+            TabularData counts = (TabularData) server.getAttribute(name, "OperationCounts");
+            CompositeData addBack = counts.get(new Object[] {"ADD_BACK"});
+            assertEquals(1L, addBack.get("value"));
+
+            assertThrows(IllegalStateException.class, () -> theList.metrics().register("again"));
+        } finally {
+            theList.metrics().unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    @Test
+    void exceptionsPassThrough() {
+        InstrumentedIntList theList = new InstrumentedIntList(new LinkedIntList());
+        assertThrows(NoSuchElementException.class, theList::removeFront);
+        assertEquals(1, theList.metrics().snapshot().count(Operation.REMOVE_FRONT));
+    }
+}
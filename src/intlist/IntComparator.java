@@ -0,0 +1,34 @@
+package intlist;
+
+/**
+ * Compares two int values for sorting, like java.util.Comparator but
+ * without boxing them.
+ */
+@FunctionalInterface
+public interface IntComparator {
+
+    /**
+     * Compares two values.
+     * @param a the first value
+     * @param b the second value
+     * @return a negative number, zero or a positive number when a comes
+     * before, together with or after b
+     */
+    int compare(int a, int b);
+
+    /**
+     * Returns a comparator that orders values the other way round.
+     * @return the reverse of this comparator
+     */
+    default IntComparator reversed() {
+        return (a, b) -> compare(b, a);
+    }
+
+    /**
+     * Returns the comparator for ascending order.
+     * @return a comparator that orders values from smallest to largest
+     */
+    static IntComparator naturalOrder() {
+        return Integer::compare;
+    }
+}
@@ -0,0 +1,23 @@
+package intlist;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * An iterator over the values of an IntList that hands them out
+ * as primitive ints, so walking a list does not box every value.
+ *
+ * The boxed next() inherited from PrimitiveIterator.OfInt still works,
+ * which keeps the enhanced for-loop (for (int v : list)) compiling,
+ * but callers on a hot path should use nextInt() instead.
+ */
+public interface IntIterator extends PrimitiveIterator.OfInt {
+
+    /**
+     * Returns the next value in the iteration.
+     *
+     * @return the next value in the iteration
+     * @throws java.util.NoSuchElementException if the iteration has no more values
+     */
+    @Override
+    int nextInt();
+}
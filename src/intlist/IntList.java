@@ -0,0 +1,525 @@
+package intlist;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The IntList interface defines a set of operations
+ * for an ordered (indexed) collection of ints, which
+ * in mathematics is known as a sequence.
+ */
+public interface IntList extends Iterable<Integer> {
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     * @param value value to be inserted
+     */
+    void addFront(int value);
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     * @param value value to be inserted
+     */
+    void addBack(int value);
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void add(int index, int value);
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    void removeFront();
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    void removeBack();
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int remove(int index);
+
+    /**
+     * Returns the value at the specified position in the list.
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int get(int index);
+
+    /**
+     * Returns true if this list contains the specified value.
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    boolean contains(int value);
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    int indexOf(int value);
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    default int lastIndexOf(int value) {
+        int last = -1;
+        IntIterator itr = iterator();
+        for (int i = 0; itr.hasNext(); i++) {
+            if (itr.nextInt() == value) {
+                last = i;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     * @param value value to count
+     * @return the number of occurrences of the value
+     */
+    default int count(int value) {
+        int count = 0;
+        IntIterator itr = iterator();
+        while (itr.hasNext()) {
+            if (itr.nextInt() == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    int size();
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    void clear();
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     * @param values values to be inserted
+     */
+    default void addAll(int[] values) {
+        for (int value : values) {
+            addBack(value);
+        }
+    }
+
+    /**
+     * Appends all the values of the specified list, in order, at the back
+     * of this list. The other list is not changed (it may be this list).
+     * @param other list whose values are to be inserted
+     */
+    default void addAll(IntList other) {
+        addAll(other.toArray());
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right by values.length.
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    default void addAll(int index, int[] values) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        for (int i = 0; i < values.length; i++) {
+            add(index + i, values[i]);
+        }
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     * @return an array of length size() holding the values of this list
+     */
+    default int[] toArray() {
+        int[] result = new int[size()];
+        IntIterator itr = iterator();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = itr.nextInt();
+        }
+        return result;
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive). Shifts any subsequent values to the left.
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex
+                    + ", Size: " + size());
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes every value that satisfies the given predicate, keeping the
+     * order of the others. The predicate is called once per value, front
+     * to back.
+     *
+     * This default copies the values out with toArray(), compacts the copy
+     * and puts the survivors back with clear() and addAll(), so it takes
+     * O(n) instead of one remove(index) per removed value. The list is not
+     * touched when nothing matches.
+     *
+     * @param filter returns true for the values to be removed
+     * @return true if any value was removed
+     * @throws NullPointerException if the filter is null
+     */
+    default boolean removeIf(IntPredicate filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int[] values = toArray();
+        int kept = 0;
+        for (int value : values) {
+            if (!filter.test(value)) {
+                values[kept++] = value;
+            }
+        }
+        if (kept == values.length) {
+            return false;
+        }
+        clear();
+        addAll(Arrays.copyOf(values, kept));
+        return true;
+    }
+
+    /**
+     * Removes every value that does not occur in the specified list.
+     * The other list is not changed (it may be this list).
+     *
+     * @param other list holding the values to keep
+     * @return true if any value was removed
+     * @throws NullPointerException if other is null
+     */
+    default boolean retainAll(IntList other) {
+        IntPredicate member = memberOf(other.toArray());
+        return removeIf(member.negate());
+    }
+
+    /**
+     * Removes every occurrence of each of the specified values.
+     *
+     * @param values values to be removed
+     * @return true if any value was removed
+     * @throws NullPointerException if values is null
+     */
+    default boolean removeAll(int... values) {
+        return removeIf(memberOf(values.clone()));
+    }
+
+    /**
+     * Replaces each value with the result of applying the operator to it,
+     * front to back.
+     *
+     * This default rebuilds the list with clear() and addAll(). A list
+     * that orders its own values (such as SortedIntList) puts the results
+     * back in its own order.
+     *
+     * @param operator the operator to apply to each value
+     * @throws NullPointerException if the operator is null
+     */
+    default void replaceAll(IntUnaryOperator operator) {
+        if (operator == null) {
+            throw new NullPointerException();
+        }
+        int[] values = toArray();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = operator.applyAsInt(values[i]);
+        }
+        clear();
+        addAll(values);
+    }
+
+    /**
+     * Sorts the values of this list in ascending order.
+     *
+     * This default copies the values out with toArray(), sorts the copy
+     * with Arrays.sort and puts it back with clear() and addAll().
+     * ArrayIntList sorts its buffer in place and LinkedIntList relinks its
+     * nodes instead.
+     */
+    default void sort() {
+        int[] values = toArray();
+        Arrays.sort(values);
+        clear();
+        addAll(values);
+    }
+
+    /**
+     * Sorts the values of this list in the order the comparator gives.
+     * The sort is stable: values the comparator calls equal keep their order.
+     *
+     * @param comparator decides the order of two values
+     * @throws NullPointerException if the comparator is null
+     */
+    default void sort(IntComparator comparator) {
+        int[] values = toArray();
+        IntSorting.sort(values, 0, values.length, comparator);
+        clear();
+        addAll(values);
+    }
+
+    /**
+     * Sorts the values of this list in ascending order, using the common
+     * fork-join pool for large lists (see Arrays.parallelSort). Small lists
+     * are sorted on the calling thread.
+     */
+    default void parallelSort() {
+        int[] values = toArray();
+        Arrays.parallelSort(values);
+        clear();
+        addAll(values);
+    }
+
+    /**
+     * Writes the values of this list to a channel in the binary format of
+     * IntListCodec, with a CRC32C checksum per block.
+     * @param channel a blocking channel to write to; it is not closed
+     * @throws IOException if writing to the channel fails
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException {
+        IntListCodec.write(this, channel, true);
+    }
+
+    /**
+     * Writes the values of this list to a stream in the binary format of
+     * IntListCodec, with a CRC32C checksum per block.
+     * @param out the stream to write to; it is neither flushed nor closed
+     * @throws IOException if writing to the stream fails
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        writeTo(Channels.newChannel(out));
+    }
+
+    /**
+     * Reads one list written by writeTo from a channel and appends its
+     * values to this list, all in one addAll call once the whole list has
+     * arrived intact. If the read fails, this list is not changed.
+     * @param channel a blocking channel to read from; it is not closed
+     * @return the number of values read
+     * @throws IOException if reading fails, the channel ends early, the data
+     * is not in the IntListCodec format or a checksum does not match
+     */
+    default int readFrom(ReadableByteChannel channel) throws IOException {
+        return IntListCodec.read(channel, this);
+    }
+
+    /**
+     * Reads one list written by writeTo from a stream and appends its
+     * values to this list, all in one addAll call once the whole list has
+     * arrived intact. The stream is left just after that list. If the read
+     * fails, this list is not changed.
+     * @param in the stream to read from; it is not closed
+     * @return the number of values read
+     * @throws IOException if reading fails, the stream ends early, the data
+     * is not in the IntListCodec format or a checksum does not match
+     */
+    default int readFrom(InputStream in) throws IOException {
+        return readFrom(Channels.newChannel(in));
+    }
+
+    /**
+     * Appends the values of this list as text, the same as toString(),
+     * to out. The text is produced a chunk at a time, so no String of
+     * the whole list is built.
+     * @param out where to append the text
+     * @throws IOException if appending to out fails
+     */
+    default void appendTo(Appendable out) throws IOException {
+        IntListText.appendTo(this, out);
+    }
+
+    /**
+     * Writes the values of this list as text, the same as toString(), to
+     * a Writer, a chunk at a time.
+     * @param out the writer to write to; it is neither flushed nor closed
+     * @throws IOException if writing fails
+     */
+    default void writeText(Writer out) throws IOException {
+        appendTo(out);
+    }
+
+    /**
+     * Parses a list of ints written as text, such as "[1, 2, 3]" (the
+     * form toString() and appendTo produce) or "1 2 3", into a new list.
+     * The list is sized once, from the number of values in the first few
+     * thousand chars scaled to the whole text, so its capacity is an
+     * estimate (a few percent above size() for evenly sized values) and
+     * is not trimmed. See IntListText for the accepted forms.
+     * @param text the text to parse
+     * @return a new ArrayIntList holding the parsed values
+     * @throws NumberFormatException if the text is not a list of ints
+     */
+    static ArrayIntList parse(CharSequence text) {
+        return IntListText.parse(text);
+    }
+
+    /**
+     * Parses a list of ints written as text, read from a Reader a chunk
+     * at a time, into a new list.
+     * @param in the reader to read from; it is read to the end but not closed
+     * @return a new ArrayIntList holding the parsed values
+     * @throws IOException if reading fails
+     * @throws NumberFormatException if the text is not a list of ints
+     */
+    static ArrayIntList parse(Reader in) throws IOException {
+        return IntListText.parse(in);
+    }
+
+    // a membership test for the given values: sorts them (in place), then binary searches
+    private static IntPredicate memberOf(int[] values) {
+        Arrays.sort(values);
+        return value -> Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order
+     * from front to back. Use nextInt() on the returned iterator
+     * to read values without boxing them.
+     * @return an IntIterator over the values in this list
+     */
+    @Override
+    IntIterator iterator();
+
+    /**
+     * Returns a cursor over this list that starts at the front, see
+     * listIterator(int).
+     * @return an IntListIterator positioned before the first value
+     */
+    default IntListIterator listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a cursor over this list that starts in front of the value at
+     * the specified index. It moves both ways and can set, add and remove
+     * values where it stands.
+     *
+     * This default works through get, add(index, value) and remove(index),
+     * so each step costs what positional access costs on this list.
+     * LinkedIntList overrides it with a cursor on its nodes, where every
+     * step and change is O(1).
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before that value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    default IntListIterator listIterator(int index) {
+        return new PositionalListIterator(this, index);
+    }
+
+    /**
+     * Returns a spliterator over the values in this list, for streams.
+     * It is SIZED, SUBSIZED and ORDERED, and its values are never boxed.
+     *
+     * This default wraps iterator() and splits off batches of values
+     * into arrays of growing size, which is how a parallel stream divides
+     * a list without positional access (such as a linked list).
+     * Lists with fast positional access override it to split by index range.
+     * The list must not be changed while the spliterator is in use.
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential IntStream over the values in this list.
+     * @return a sequential stream of the values in this list
+     */
+    default IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel IntStream over the values in this list, so that
+     * aggregations run on the common fork-join pool.
+     * @return a parallel stream of the values in this list
+     */
+    default IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    default void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        IntIterator itr = iterator();
+        while (itr.hasNext()) {
+            action.accept(itr.nextInt());
+        }
+    }
+}
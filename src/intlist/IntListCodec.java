@@ -0,0 +1,275 @@
+package intlist;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads and writes IntLists in a compact binary format, over NIO channels
+ * or over streams. IntList.writeTo and IntList.readFrom call into here.
+ *
+ * The format, with every number little-endian:
+ *
+ *   header   12 bytes: the magic "INTS" (4 bytes), the version (1 byte, 1),
+ *            flags (1 byte), 2 reserved zero bytes, and the number of
+ *            values (4 bytes)
+ *   payload  the values, 4 bytes each, in blocks of BLOCK_VALUES values
+ *            (the last block may be shorter). When the FLAG_CHECKSUM flag
+ *            is set, every block is followed by the CRC32C of its bytes.
+ *
+ * An empty list is only the header. Nothing follows the last block, so
+ * several lists can be written one after another on the same channel and
+ * read back in the same order.
+ *
+ * Values go through a direct ByteBuffer of one block, reused per thread:
+ * they are copied into its little-endian IntBuffer view in bulk, and the
+ * buffer is handed to the channel as it is, with no byte[] in between.
+ * On little-endian CPUs (x86, most ARM) the copy is a plain memory copy,
+ * and CRC32C is a CPU instruction, so a checksum costs little.
+ *
+ * The channels must be blocking: a write or read that makes no progress
+ * is simply tried again.
+ */
+public final class IntListCodec {
+
+    /**
+     * The first 4 bytes of every list, "INTS" in ASCII. It differs from the
+     * "INTL" that starts a MappedIntList file, whose header has another
+     * layout, so neither format can be mistaken for the other.
+     */
+    public final static int MAGIC = 0x53544E49;     // "INTS" read as a little-endian int
+
+    /** The format version written by this class. */
+    public final static int VERSION = 1;
+
+    /** Flag bit: every block is followed by its CRC32C. */
+    public final static int FLAG_CHECKSUM = 1;
+
+    /** Number of values per payload block (64 KiB of payload). */
+    public final static int BLOCK_VALUES = 16 * 1024;
+
+    private final static int HEADER_BYTES = 12;
+
+    // a reader never sizes its decode array up front for more than this many values,
+    // so a corrupt or hostile length cannot make it allocate gigabytes before any data arrives
+    private final static int PRESIZE_LIMIT = 1 << 22;
+
+    private final static ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    // the per-thread block buffer, its int view, a heap copy for generic lists and the checksum
+    private static final class Buffers {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(BLOCK_VALUES * 4 + 4).order(ByteOrder.LITTLE_ENDIAN);
+        final IntBuffer ints = bytes.asIntBuffer();
+        final int[] values = new int[BLOCK_VALUES];
+        final CRC32C crc = new CRC32C();
+    }
+
+    private IntListCodec() {
+    }
+
+    /**
+     * Writes all the values of a list to a channel, optionally with checksums.
+     *
+     * @param list the list to write
+     * @param channel a blocking channel to write to; it is not closed
+     * @param checksum true to follow every block with its CRC32C
+     * @throws IOException if writing to the channel fails
+     * @throws ConcurrentModificationException if the list shrank while it was written
+     */
+    public static void write(IntList list, WritableByteChannel channel, boolean checksum) throws IOException {
+        if (list instanceof ArrayIntList) {
+            ((ArrayIntList) list).writeTo(channel, checksum);   // straight from its buffer
+            return;
+        }
+        int length = list.size();
+        write(length, list.iterator(), null, 0, channel, checksum);
+    }
+
+    /**
+     * Writes the values values[from..to) as one list to a channel,
+     * optionally with checksums. Array-backed lists write their buffer this way.
+     *
+     * @param values array holding the values
+     * @param from index of the first value to write
+     * @param to index after the last value to write
+     * @param channel a blocking channel to write to; it is not closed
+     * @param checksum true to follow every block with its CRC32C
+     * @throws IOException if writing to the channel fails
+     * @throws IndexOutOfBoundsException if from and to are not a range of values
+     */
+    public static void write(int[] values, int from, int to, WritableByteChannel channel, boolean checksum)
+            throws IOException {
+        if (from < 0 || to > values.length || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Length: " + values.length);
+        }
+        write(to - from, null, values, from, channel, checksum);
+    }
+
+    /**
+     * Writes all the values of a list to a stream, optionally with checksums.
+     *
+     * @param list the list to write
+     * @param out the stream to write to; it is neither flushed nor closed
+     * @param checksum true to follow every block with its CRC32C
+     * @throws IOException if writing to the stream fails
+     */
+    public static void write(IntList list, OutputStream out, boolean checksum) throws IOException {
+        write(list, Channels.newChannel(out), checksum);
+    }
+
+    // writes length values, taken from the iterator or else from array[offset..]
+    private static void write(int length, IntIterator iterator, int[] array, int offset,
+                              WritableByteChannel channel, boolean checksum) throws IOException {
+        Buffers buffers = BUFFERS.get();
+        ByteBuffer bytes = buffers.bytes;
+        bytes.clear();
+        bytes.putInt(MAGIC).put((byte) VERSION).put((byte) (checksum ? FLAG_CHECKSUM : 0)).putShort((short) 0)
+                .putInt(length);
+        bytes.flip();
+        writeFully(channel, bytes);
+
+        int written = 0;
+        while (written < length) {
+            int count = Math.min(length - written, BLOCK_VALUES);
+            buffers.ints.clear();
+            if (array != null) {
+                buffers.ints.put(array, offset + written, count);
+            } else {
+                int[] values = buffers.values;
+                for (int i = 0; i < count; i++) {
+                    if (!iterator.hasNext()) {
+                        throw new ConcurrentModificationException("List shrank while being written");
+                    }
+                    values[i] = iterator.nextInt();
+                }
+                buffers.ints.put(values, 0, count);
+            }
+            bytes.clear();
+            bytes.limit(count * 4);
+            if (checksum) {
+                CRC32C crc = buffers.crc;
+                crc.reset();
+                crc.update(bytes);              // moves position up to the limit
+                bytes.limit(count * 4 + 4);
+                bytes.putInt((int) crc.getValue());
+            }
+            bytes.position(0);
+            writeFully(channel, bytes);
+            written += count;
+        }
+    }
+
+    /**
+     * Reads one list from a channel and appends its values to the target list.
+     *
+     * The whole list is decoded into an array first, and every block is
+     * checked against its checksum, if it has one, on the way. Only when
+     * all of it has arrived intact is the array handed to target.addAll,
+     * in one call. A read that fails (a checksum mismatch, the end of the
+     * channel or an I/O error) therefore leaves the target untouched,
+     * whatever kind of list it is, at the cost of holding the values twice
+     * for a moment. The array starts at no more than a few million values
+     * and only grows as data actually arrives, so a damaged header cannot
+     * claim huge amounts of memory.
+     *
+     * @param channel a blocking channel to read from; it is not closed
+     * @param target the list to append the values to
+     * @return the number of values read
+     * @throws EOFException if the channel ends before the whole list was read
+     * @throws IOException if reading fails, the data is not a list in this
+     * format or a checksum does not match
+     */
+    public static int read(ReadableByteChannel channel, IntList target) throws IOException {
+        Buffers buffers = BUFFERS.get();
+        ByteBuffer bytes = buffers.bytes;
+        bytes.clear();
+        bytes.limit(HEADER_BYTES);
+        readFully(channel, bytes);
+        bytes.flip();
+        if (bytes.getInt() != MAGIC) {
+            throw new IOException("Not an IntList stream (bad magic number)");
+        }
+        int version = bytes.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported IntList stream version: " + version);
+        }
+        int flags = bytes.get();
+        if ((flags & ~FLAG_CHECKSUM) != 0 || bytes.getShort() != 0) {
+            throw new IOException("Unsupported IntList stream flags: " + flags);
+        }
+        int length = bytes.getInt();
+        if (length < 0) {
+            throw new IOException("Bad IntList stream length: " + length);
+        }
+        boolean checksum = (flags & FLAG_CHECKSUM) != 0;
+
+        int[] values = new int[Math.min(length, PRESIZE_LIMIT)];
+        int read = 0;
+        for (int block = 0; read < length; block++) {
+            int count = Math.min(length - read, BLOCK_VALUES);
+            bytes.clear();
+            bytes.limit(count * 4 + (checksum ? 4 : 0));
+            readFully(channel, bytes);
+            if (checksum) {
+                CRC32C crc = buffers.crc;
+                crc.reset();
+                bytes.position(0);
+                bytes.limit(count * 4);
+                crc.update(bytes);
+                bytes.limit(count * 4 + 4);
+                if (bytes.getInt(count * 4) != (int) crc.getValue()) {
+                    throw new IOException("IntList stream checksum mismatch in block " + block);
+                }
+            }
+            if (read + count > values.length) {
+                // doubles, but never past length, so the last block fills the array exactly
+                values = Arrays.copyOf(values, (int) Math.min((long) values.length * 2, length));
+            }
+            buffers.ints.clear();
+            buffers.ints.get(values, read, count);
+            read += count;
+        }
+        target.addAll(values);
+        return length;
+    }
+
+    /**
+     * Reads one list from a stream and appends its values to the target
+     * list. Reads exactly the bytes of that one list, so the stream is left
+     * at whatever follows it. A failed read leaves the target untouched.
+     *
+     * @param in the stream to read from; it is not closed
+     * @param target the list to append the values to
+     * @return the number of values read
+     * @throws EOFException if the stream ends before the whole list was read
+     * @throws IOException if reading fails, the data is not a list in this
+     * format or a checksum does not match
+     */
+    public static int read(InputStream in, IntList target) throws IOException {
+        return read(Channels.newChannel(in), target);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes) < 0) {
+                throw new EOFException("IntList stream ended early");
+            }
+        }
+    }
+}       // end of IntListCodec
@@ -0,0 +1,157 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntListCodecTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] encode(IntList list) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void roundTripThroughStreams() throws IOException {
+        int[] values = new Random(24).ints(IntListCodec.BLOCK_VALUES * 2 + 123).toArray();
+        for (IntList source : new IntList[] {new ArrayIntList(), new LinkedIntList(), new ConcurrentIntList()}) {
+            source.addAll(values);
+            byte[] bytes = encode(source);
+            // header, payload and one checksum per block (3 blocks)
+            assertEquals(12 + values.length * 4 + 3 * 4, bytes.length);
+
+            ArrayDequeIntList copy = new ArrayDequeIntList();
+            copy.addBack(-1);
+            assertEquals(values.length, copy.readFrom(new ByteArrayInputStream(bytes)));
+            assertEquals(values.length + 1, copy.size());
+            copy.removeFront();
+            assertArrayEquals(values, copy.toArray());
+        }
+    }
+
+    @Test
+    void formatIsLittleEndianWithHeader() throws IOException {
+        ArrayIntList theList = new ArrayIntList();
+        theList.addAll(new int[] {1, -2});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IntListCodec.write(theList, out, false);
+
+        ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(20, bytes.remaining());
+        assertEquals('I', bytes.get(0));
+        assertEquals('S', bytes.get(3));
+        assertEquals(IntListCodec.MAGIC, bytes.getInt());
+        assertEquals(IntListCodec.VERSION, bytes.get());
+        assertEquals(0, bytes.get());           // no checksum flag
+        assertEquals(0, bytes.getShort());
+        assertEquals(2, bytes.getInt());
+        assertEquals(1, bytes.getInt());
+        assertEquals(-2, bytes.getInt());
+    }
+
+    @Test
+    void severalListsOnOneFileChannel() throws IOException {
+        Path file = dir.resolve("lists.bin");
+        ArrayIntList first = new ArrayIntList();
+        first.addAll(new int[] {1, 2, 3});
+        LinkedIntList empty = new LinkedIntList();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            first.writeTo(channel);
+            empty.writeTo(channel);
+            first.writeTo(channel);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ArrayIntList copy = new ArrayIntList();
+            assertEquals(3, copy.readFrom(channel));
+            assertEquals(0, copy.readFrom(channel));
+            assertEquals(3, copy.readFrom(channel));
+            assertEquals("[1, 2, 3, 1, 2, 3]", copy.toString());
+            assertThrows(EOFException.class, () -> copy.readFrom(channel));
+        }
+    }
+
+    @Test
+    void damagedDataIsRejected() throws IOException {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 0; i < 1000; i++) {
+            theList.addBack(i);
+        }
+        byte[] bytes = encode(theList);
+
+        byte[] flipped = bytes.clone();
+        flipped[500] ^= 0x10;
+        IOException checksum = assertThrows(IOException.class,
+                () -> new ArrayIntList().readFrom(new ByteArrayInputStream(flipped)));
+        assertTrue(checksum.getMessage().contains("checksum"));
+
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(EOFException.class, () -> new ArrayIntList().readFrom(new ByteArrayInputStream(truncated)));
+
+        // a failure in a later block leaves every kind of target untouched: nothing is
+        // added until the whole list has arrived, so there is nothing to take back
+        ArrayIntList big = new ArrayIntList();
+        for (int i = 0; i < IntListCodec.BLOCK_VALUES * 3; i++) {
+            big.addBack(i);
+        }
+        byte[] intact = encode(big);
+        byte[] lateDamage = intact.clone();
+        lateDamage[lateDamage.length - 100] ^= 0x10;            // in the third block
+        byte[] lateEnd = java.util.Arrays.copyOf(intact, intact.length - 200);
+        IntList[] targets = {new ArrayIntList(), new LinkedIntList(), new SortedIntList(),
+                new AppendOnlyIntList(), new ConcurrentIntList()};
+        for (IntList partial : targets) {
+            partial.addAll(new int[] {100, 200, 300});
+            IOException damaged = assertThrows(IOException.class,
+                    () -> partial.readFrom(new ByteArrayInputStream(lateDamage)));
+            assertTrue(damaged.getMessage().contains("checksum"));
+            assertEquals("[100, 200, 300]", partial.toString());
+            assertThrows(EOFException.class, () -> partial.readFrom(new ByteArrayInputStream(lateEnd)));
+            assertEquals("[100, 200, 300]", partial.toString());
+
+            assertEquals(big.size(), partial.readFrom(new ByteArrayInputStream(intact)));
+            assertEquals(big.size() + 3, partial.size());
+        }
+
+        byte[] wrongMagic = bytes.clone();
+        wrongMagic[0] = 'X';
+        assertThrows(IOException.class, () -> new ArrayIntList().readFrom(new ByteArrayInputStream(wrongMagic)));
+
+        byte[] hugeLength = java.util.Arrays.copyOf(bytes, 12);
+        hugeLength[11] = 0x7F;                  // claims about 2^31 values, sends none
+        ArrayIntList target = new ArrayIntList();
+        assertThrows(EOFException.class, () -> target.readFrom(new ByteArrayInputStream(hugeLength)));
+        assertTrue(target.capacity() <= (1 << 22));
+    }
+
+    @Test
+    void mappedListFileIsRejected() throws IOException {
+        Path file = dir.resolve("mapped.bin");
+        try (MappedIntList mapped = new MappedIntList(file)) {
+            mapped.addAll(new int[] {7, 8, 9});
+        }
+        ArrayIntList target = new ArrayIntList();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IOException e = assertThrows(IOException.class, () -> target.readFrom(channel));
+            assertTrue(e.getMessage().contains("magic"), e.getMessage());
+        }
+        assertTrue(target.isEmpty());
+    }
+}
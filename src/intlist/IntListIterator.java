@@ -0,0 +1,76 @@
+package intlist;
+
+/**
+ * A cursor over an IntList that can move in both directions and change
+ * the list where it stands, like java.util.ListIterator but with int values.
+ *
+ * The cursor always sits between two values: nextInt() returns the value
+ * after it, previousInt() the value before it. set(value) and remove()
+ * act on the value returned by the last nextInt() or previousInt();
+ * add(value) inserts in front of the cursor.
+ *
+ * The list must not be changed while the cursor is in use other than
+ * through the cursor itself.
+ */
+public interface IntListIterator extends IntIterator {
+
+    /**
+     * Returns true if there is a value before the cursor.
+     *
+     * @return true if previousInt() would return a value
+     */
+    boolean hasPrevious();
+
+    /**
+     * Moves the cursor back one value and returns that value.
+     *
+     * @return the value before the cursor
+     * @throws java.util.NoSuchElementException if there is no value before the cursor
+     */
+    int previousInt();
+
+    /**
+     * Returns the index of the value nextInt() would return
+     * (size() at the back of the list).
+     *
+     * @return the index of the value after the cursor
+     */
+    int nextIndex();
+
+    /**
+     * Returns the index of the value previousInt() would return
+     * (-1 at the front of the list).
+     *
+     * @return the index of the value before the cursor
+     */
+    default int previousIndex() {
+        return nextIndex() - 1;
+    }
+
+    /**
+     * Removes from the list the value returned by the last nextInt() or
+     * previousInt().
+     *
+     * @throws IllegalStateException if neither has been called, or remove()
+     * or add() has been called since
+     */
+    @Override
+    void remove();
+
+    /**
+     * Replaces the value returned by the last nextInt() or previousInt().
+     *
+     * @param value the new value
+     * @throws IllegalStateException if neither has been called, or remove()
+     * or add() has been called since
+     */
+    void set(int value);
+
+    /**
+     * Inserts a value in front of the cursor, so a following nextInt() is
+     * not affected and a following previousInt() returns the new value.
+     *
+     * @param value value to be inserted
+     */
+    void add(int value);
+}
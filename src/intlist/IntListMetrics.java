@@ -0,0 +1,467 @@
+package intlist;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Usage counters for IntLists: how often each operation is called and how
+ * long it takes, how often the buffer is resized and how many values that
+ * copies, how far values are shifted, how many links a linked list follows,
+ * and the largest size and capacity seen.
+ *
+ * The operation counts and latencies are filled in by InstrumentedIntList.
+ * ArrayIntList and LinkedIntList also report resizes, shifts and traversals
+ * straight from their internals once given a metrics object with
+ * setMetrics, at the cost of one null check when they have none.
+ *
+ * All counters are LongAdders, so one metrics object can be shared by the
+ * lists of a call site, even across threads, without contention.
+ * Read them with snapshot(), or over JMX after register(name).
+ */
+public class IntListMetrics implements IntListMetricsMXBean {
+
+    /**
+     * The IntList operations that are counted and timed.
+     */
+    public enum Operation {
+        ADD_FRONT, ADD_BACK, ADD, ADD_ALL,
+        REMOVE_FRONT, REMOVE_BACK, REMOVE, REMOVE_RANGE, REMOVE_IF, CLEAR,
+        REPLACE_ALL, SORT,
+        GET, CONTAINS, INDEX_OF, LAST_INDEX_OF, COUNT,
+        TO_ARRAY, ITERATE
+    }
+
+    private final static Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * Latency buckets per operation: bucket 0 holds 0 ns, bucket i holds
+     * [2^(i-1), 2^i) ns, and the last bucket holds everything slower.
+     */
+    public final static int LATENCY_BUCKETS = 32;
+
+    private final LongAdder[] counts = new LongAdder[OPERATIONS.length];
+    private final LongAdder[] totalNanos = new LongAdder[OPERATIONS.length];
+    private final LongAdder[][] latencies = new LongAdder[OPERATIONS.length][LATENCY_BUCKETS];
+
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder valuesCopiedByResize = new LongAdder();
+    private final LongAdder shifts = new LongAdder();
+    private final LongAdder valuesShifted = new LongAdder();
+    private final LongAccumulator maxShift = new LongAccumulator(Math::max, 0);
+    private final LongAdder traversals = new LongAdder();
+    private final LongAdder traversalSteps = new LongAdder();
+    private final LongAccumulator maxTraversal = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakSize = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+
+    private ObjectName registeredName;  // set while registered with JMX
+
+    public IntListMetrics() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            counts[i] = new LongAdder();
+            totalNanos[i] = new LongAdder();
+            for (int b = 0; b < LATENCY_BUCKETS; b++) {
+                latencies[i][b] = new LongAdder();
+            }
+        }
+    }
+
+    // the latency bucket for a duration
+    private static int bucket(long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+        return Math.min(64 - Long.numberOfLeadingZeros(nanos), LATENCY_BUCKETS - 1);
+    }
+
+    /**
+     * Records one call of an operation and how long it took.
+     *
+     * @param operation the operation that was called
+     * @param nanos how long the call took, in nanoseconds
+     */
+    public void recordOperation(Operation operation, long nanos) {
+        int i = operation.ordinal();
+        counts[i].increment();
+        totalNanos[i].add(nanos);
+        latencies[i][bucket(nanos)].increment();
+    }
+
+    /**
+     * Records that a buffer was resized.
+     *
+     * @param oldCapacity capacity before the resize
+     * @param newCapacity capacity after the resize
+     * @param valuesCopied how many values were copied into the new buffer
+     */
+    public void recordResize(int oldCapacity, int newCapacity, int valuesCopied) {
+        resizes.increment();
+        valuesCopiedByResize.add(valuesCopied);
+        peakCapacity.accumulate(newCapacity);
+    }
+
+    /**
+     * Records that values were shifted to open or close a gap.
+     *
+     * @param distance how many values were moved
+     */
+    public void recordShift(int distance) {
+        shifts.increment();
+        valuesShifted.add(distance);
+        maxShift.accumulate(distance);
+    }
+
+    /**
+     * Records a walk along the links of a linked list.
+     *
+     * @param steps how many links were followed
+     */
+    public void recordTraversal(int steps) {
+        traversals.increment();
+        traversalSteps.add(steps);
+        maxTraversal.accumulate(steps);
+    }
+
+    /**
+     * Records the current size of a list, for the peak size.
+     *
+     * @param size the size of the list
+     */
+    public void recordSize(int size) {
+        peakSize.accumulate(size);
+    }
+
+    /**
+     * Records the current capacity of a list, for the peak capacity.
+     *
+     * @param capacity the capacity of the list
+     */
+    public void recordCapacity(int capacity) {
+        peakCapacity.accumulate(capacity);
+    }
+
+    /**
+     * Returns a copy of all the counters as they are now.
+     *
+     * @return a snapshot of these metrics
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            counts[i].reset();
+            totalNanos[i].reset();
+            for (LongAdder bucket : latencies[i]) {
+                bucket.reset();
+            }
+        }
+        resizes.reset();
+        valuesCopiedByResize.reset();
+        shifts.reset();
+        valuesShifted.reset();
+        maxShift.reset();
+        traversals.reset();
+        traversalSteps.reset();
+        maxTraversal.reset();
+        peakSize.reset();
+        peakCapacity.reset();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * intlist:type=IntListMetrics,name=(name), so tools such as JConsole
+     * can read them.
+     *
+     * @param name the name of the call site or list
+     * @return the name the MBean was registered under
+     * @throws IllegalStateException if the MBean cannot be registered,
+     * for example because the name is already taken
+     */
+    public synchronized ObjectName register(String name) {
+        if (registeredName != null) {
+            throw new IllegalStateException("Already registered as " + registeredName);
+        }
+        try {
+            ObjectName objectName = new ObjectName("intlist:type=IntListMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            registeredName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register IntListMetrics " + name, e);
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server.
+     * Does nothing if they are not registered.
+     */
+    public synchronized void unregister() {
+        if (registeredName == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(registeredName)) {
+                server.unregisterMBean(registeredName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister " + registeredName, e);
+        } finally {
+            registeredName = null;
+        }
+    }
+
+    // MXBean attributes, read live
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Operation operation : OPERATIONS) {
+            result.put(operation.name(), counts[operation.ordinal()].sum());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyNanos() {
+        return snapshot().meanLatencies();
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        Snapshot snapshot = snapshot();
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Operation operation : OPERATIONS) {
+            result.put(operation.name(), snapshot.latencyPercentileNanos(operation, 0.99));
+        }
+        return result;
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getValuesCopiedByResize() {
+        return valuesCopiedByResize.sum();
+    }
+
+    @Override
+    public long getShiftCount() {
+        return shifts.sum();
+    }
+
+    @Override
+    public long getValuesShifted() {
+        return valuesShifted.sum();
+    }
+
+    @Override
+    public long getMaxShiftDistance() {
+        return maxShift.get();
+    }
+
+    @Override
+    public long getTraversalCount() {
+        return traversals.sum();
+    }
+
+    @Override
+    public long getTraversalSteps() {
+        return traversalSteps.sum();
+    }
+
+    @Override
+    public long getMaxTraversalSteps() {
+        return maxTraversal.get();
+    }
+
+    @Override
+    public long getPeakSize() {
+        return peakSize.get();
+    }
+
+    @Override
+    public long getPeakCapacity() {
+        return peakCapacity.get();
+    }
+
+    /**
+     * An unchanging copy of the counters of an IntListMetrics.
+     * The counters are read one after the other while the lists may still
+     * be in use, so counters updated meanwhile may be off by those updates.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long[] totalNanos;
+        private final long[][] latencies;
+        private final long resizes;
+        private final long valuesCopiedByResize;
+        private final long shifts;
+        private final long valuesShifted;
+        private final long maxShift;
+        private final long traversals;
+        private final long traversalSteps;
+        private final long maxTraversal;
+        private final long peakSize;
+        private final long peakCapacity;
+
+        private Snapshot(IntListMetrics metrics) {
+            counts = new long[OPERATIONS.length];
+            totalNanos = new long[OPERATIONS.length];
+            latencies = new long[OPERATIONS.length][LATENCY_BUCKETS];
+            for (int i = 0; i < OPERATIONS.length; i++) {
+                counts[i] = metrics.counts[i].sum();
+                totalNanos[i] = metrics.totalNanos[i].sum();
+                for (int b = 0; b < LATENCY_BUCKETS; b++) {
+                    latencies[i][b] = metrics.latencies[i][b].sum();
+                }
+            }
+            resizes = metrics.resizes.sum();
+            valuesCopiedByResize = metrics.valuesCopiedByResize.sum();
+            shifts = metrics.shifts.sum();
+            valuesShifted = metrics.valuesShifted.sum();
+            maxShift = metrics.maxShift.get();
+            traversals = metrics.traversals.sum();
+            traversalSteps = metrics.traversalSteps.sum();
+            maxTraversal = metrics.maxTraversal.get();
+            peakSize = metrics.peakSize.get();
+            peakCapacity = metrics.peakCapacity.get();
+        }
+
+        public long count(Operation operation) {
+            return counts[operation.ordinal()];
+        }
+
+        public long totalCount() {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        public double meanLatencyNanos(Operation operation) {
+            long count = counts[operation.ordinal()];
+            return count == 0 ? 0.0 : (double) totalNanos[operation.ordinal()] / count;
+        }
+
+        /**
+         * Returns the latency histogram of an operation, see LATENCY_BUCKETS.
+         *
+         * @param operation the operation
+         * @return a new array with the number of calls in each bucket
+         */
+        public long[] latencyHistogram(Operation operation) {
+            return latencies[operation.ordinal()].clone();
+        }
+
+        /**
+         * Returns an upper bound for the given percentile of an operation's
+         * latency: the top of the histogram bucket the percentile falls in.
+         *
+         * @param operation the operation
+         * @param percentile between 0 and 1, for example 0.99
+         * @return the latency in nanoseconds, 0 if the operation was never called
+         */
+        public long latencyPercentileNanos(Operation operation, double percentile) {
+            long[] histogram = latencies[operation.ordinal()];
+            long count = counts[operation.ordinal()];
+            long target = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int b = 0; b < LATENCY_BUCKETS; b++) {
+                seen += histogram[b];
+                if (seen >= target && seen > 0) {
+                    return b == 0 ? 0 : (1L << b) - 1;
+                }
+            }
+            return 0;
+        }
+
+        Map<String, Double> meanLatencies() {
+            Map<String, Double> result = new LinkedHashMap<>();
+            for (Operation operation : OPERATIONS) {
+                result.put(operation.name(), meanLatencyNanos(operation));
+            }
+            return result;
+        }
+
+        public long resizeCount() {
+            return resizes;
+        }
+
+        public long valuesCopiedByResize() {
+            return valuesCopiedByResize;
+        }
+
+        public long shiftCount() {
+            return shifts;
+        }
+
+        public long valuesShifted() {
+            return valuesShifted;
+        }
+
+        public long maxShiftDistance() {
+            return maxShift;
+        }
+
+        public long traversalCount() {
+            return traversals;
+        }
+
+        public long traversalSteps() {
+            return traversalSteps;
+        }
+
+        public long maxTraversalSteps() {
+            return maxTraversal;
+        }
+
+        public long peakSize() {
+            return peakSize;
+        }
+
+        public long peakCapacity() {
+            return peakCapacity;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("operations {");
+            String separator = "";
+            for (Operation operation : OPERATIONS) {
+                long count = count(operation);
+                if (count > 0) {
+                    sb.append(separator).append(operation).append('=').append(count)
+                            .append(" (mean ").append(Math.round(meanLatencyNanos(operation))).append(" ns)");
+                    separator = ", ";
+                }
+            }
+            sb.append("}, resizes=").append(resizes)
+                    .append(", valuesCopiedByResize=").append(valuesCopiedByResize)
+                    .append(", shifts=").append(shifts)
+                    .append(", valuesShifted=").append(valuesShifted)
+                    .append(", traversals=").append(traversals)
+                    .append(", traversalSteps=").append(traversalSteps)
+                    .append(", peakSize=").append(peakSize)
+                    .append(", peakCapacity=").append(peakCapacity);
+            return sb.toString();
+        }
+    }
+
+}       // end of IntListMetrics
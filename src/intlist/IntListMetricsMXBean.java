@@ -0,0 +1,38 @@
+package intlist;
+
+import java.util.Map;
+
+/**
+ * The JMX view of an IntListMetrics. Maps are keyed by operation name
+ * (ADD_BACK, GET, ...). Every value is read live when asked for.
+ */
+public interface IntListMetricsMXBean {
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Double> getMeanLatencyNanos();
+
+    Map<String, Long> getP99LatencyNanos();
+
+    long getResizeCount();
+
+    long getValuesCopiedByResize();
+
+    long getShiftCount();
+
+    long getValuesShifted();
+
+    long getMaxShiftDistance();
+
+    long getTraversalCount();
+
+    long getTraversalSteps();
+
+    long getMaxTraversalSteps();
+
+    long getPeakSize();
+
+    long getPeakCapacity();
+
+    void reset();
+}
@@ -0,0 +1,317 @@
+package intlist;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Writes IntLists as text and parses them back, in bounded memory.
+ * IntList.appendTo, IntList.writeText and IntList.parse call into here.
+ *
+ * The text form is the one toString() produces: "[1, -2, 3]". Output is
+ * built in a fixed char[] chunk and handed to the Appendable a chunk at a
+ * time, so a list of any size is written without one big String. Numbers
+ * are turned into chars two digits at a time from a 100-entry table, as
+ * Integer.toString does, but straight into the chunk.
+ *
+ * The parser reads its input in chunks as well and accepts a little more
+ * than toString() writes: the brackets are optional, and values may be
+ * separated by a comma, by whitespace or by both ("1 2 3", "1,2,3" and
+ * "[1, 2, 3]" all parse to the same list). Values are accumulated digit by
+ * digit straight into the list; no String is created per value.
+ */
+public final class IntListText {
+
+    // chars per output chunk and per input read
+    private final static int CHUNK = 8192;
+
+    // ", -2147483648" is the longest a value and its separator can get
+    private final static int MAX_VALUE_CHARS = 13;
+
+    // the tens and ones digit of 0..99, so two digits are written per division
+    private final static char[] DIGIT_TENS = new char[100];
+    private final static char[] DIGIT_ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    private IntListText() {
+    }
+
+    /**
+     * Appends the text form of a list, the same as its toString(), to out.
+     *
+     * The text is handed over in chunks of a few thousand chars: through
+     * write(char[], ...) to a Writer, append(char[], ...) to a StringBuilder,
+     * and append(CharSequence, ...) to anything else.
+     *
+     * @param list the list to write
+     * @param out where to append the text
+     * @throws IOException if appending to out fails
+     */
+    public static void appendTo(IntList list, Appendable out) throws IOException {
+        char[] chunk = new char[CHUNK];
+        CharBuffer wrapped = null;                  // for a plain Appendable
+        int length = 0;
+        chunk[length++] = '[';
+        IntIterator itr = list.iterator();
+        boolean first = true;
+        while (itr.hasNext()) {
+            // room for the value and the closing ']' that may follow it
+            if (length > CHUNK - MAX_VALUE_CHARS - 1) {
+                wrapped = flush(out, chunk, length, wrapped);
+                length = 0;
+            }
+            if (!first) {
+                chunk[length++] = ',';
+                chunk[length++] = ' ';
+            }
+            length = putInt(itr.nextInt(), chunk, length);
+            first = false;
+        }
+        chunk[length++] = ']';
+        flush(out, chunk, length, wrapped);
+    }
+
+    private static CharBuffer flush(Appendable out, char[] chunk, int length, CharBuffer wrapped)
+            throws IOException {
+        if (out instanceof Writer) {
+            ((Writer) out).write(chunk, 0, length);
+        } else if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(chunk, 0, length);
+        } else {
+            if (wrapped == null) {
+                wrapped = CharBuffer.wrap(chunk);
+            }
+            out.append(wrapped, 0, length);
+        }
+        return wrapped;
+    }
+
+    /**
+     * Writes the decimal digits of value (with a '-' if negative) into
+     * chars from position on, and returns the position after the last digit.
+     * Works on the negative of the value, so Integer.MIN_VALUE needs no
+     * special case.
+     */
+    static int putInt(int value, char[] chars, int position) {
+        int end = position + stringSize(value);
+        int i = end;
+        int negated = (value < 0) ? value : -value;
+        while (negated <= -100) {
+            int quotient = negated / 100;
+            int pair = quotient * 100 - negated;        // the last two digits, 0..99
+            negated = quotient;
+            chars[--i] = DIGIT_ONES[pair];
+            chars[--i] = DIGIT_TENS[pair];
+        }
+        // one or two digits left
+        if (negated <= -10) {
+            int pair = -negated;
+            chars[--i] = DIGIT_ONES[pair];
+            chars[--i] = DIGIT_TENS[pair];
+        } else {
+            chars[--i] = (char) ('0' - negated);
+        }
+        if (value < 0) {
+            chars[--i] = '-';
+        }
+        return end;
+    }
+
+    // the number of chars of value in decimal, '-' included
+    private static int stringSize(int value) {
+        int negated = (value < 0) ? value : -value;
+        int digits = 1;
+        for (int limit = -10; digits < 10 && negated <= limit; limit *= 10) {
+            digits++;
+        }
+        return (value < 0) ? digits + 1 : digits;
+    }
+
+    /**
+     * Parses the text form of a list into a new ArrayIntList.
+     *
+     * The list is sized up front from the length of the text: after the
+     * first chunk has been parsed, the number of values in it is scaled up
+     * to the whole text, so text with values of about the same length
+     * fills the list without it ever growing, and without a separate pass
+     * to count them.
+     *
+     * @param text the text to parse
+     * @return a new list holding the parsed values
+     * @throws NumberFormatException if the text is not a list of ints,
+     * or a value does not fit in an int
+     */
+    public static ArrayIntList parse(CharSequence text) {
+        int length = text.length();
+        char[] chunk = new char[Math.min(CHUNK, Math.max(length, 1))];
+        // a value takes a digit and a separator, so the first chunk cannot hold more
+        ArrayIntList result = new ArrayIntList(chunk.length / 2 + 1);
+        Parser parser = new Parser(result);
+        for (int from = 0; from < length; from += chunk.length) {
+            int to = Math.min(from + chunk.length, length);
+            copy(text, from, to, chunk);
+            parser.parse(chunk, 0, to - from);
+            if (from == 0 && to < length) {
+                long estimate = (long) result.size() * length / to;
+                estimate += estimate / 32 + 16;             // room for a little variation
+                result.ensureCapacity((int) Math.min(estimate, length / 2 + 1));
+            }
+        }
+        parser.finish();
+        return result;
+    }
+
+    // copies text[from..to) to the front of chunk, in bulk where the type allows it
+    private static void copy(CharSequence text, int from, int to, char[] chunk) {
+        if (text instanceof String) {
+            ((String) text).getChars(from, to, chunk, 0);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(from, to, chunk, 0);
+        } else {
+            for (int i = from; i < to; i++) {
+                chunk[i - from] = text.charAt(i);
+            }
+        }
+    }
+
+    /**
+     * Parses the text form of a list, read from a Reader, into a new
+     * ArrayIntList. Reads a chunk at a time, so apart from the list
+     * itself only a few KB are used, however long the text is. The list
+     * grows as values arrive, since their number is not known up front.
+     *
+     * @param in the reader to read from; it is read to the end but not closed
+     * @return a new list holding the parsed values
+     * @throws IOException if reading fails
+     * @throws NumberFormatException if the text is not a list of ints,
+     * or a value does not fit in an int
+     */
+    public static ArrayIntList parse(Reader in) throws IOException {
+        ArrayIntList result = new ArrayIntList();
+        Parser parser = new Parser(result);
+        char[] chunk = new char[CHUNK];
+        int count;
+        while ((count = in.read(chunk, 0, CHUNK)) >= 0) {
+            parser.parse(chunk, 0, count);
+        }
+        parser.finish();
+        return result;
+    }
+
+    /*
+     * A parser that is fed the input in chunks. A value may be split over
+     * two chunks, so everything it needs to go on is kept in fields between
+     * calls; parse() keeps the ones of the current value in locals while it runs.
+     */
+    private static final class Parser {
+        // on the negative side: -(Integer.MIN_VALUE / 10) would overflow
+        private final static int MULTIPLY_LIMIT = Integer.MIN_VALUE / 10;
+
+        private final ArrayIntList target;
+        private long offset;                // chars consumed before the current chunk
+        private boolean started;            // saw something other than whitespace
+        private boolean bracketed;          // the text began with '['
+        private boolean closed;             // saw the closing ']'; only whitespace may follow
+        private boolean inNumber;           // in the middle of a value
+        private boolean negative;           // the current value has a '-'
+        private boolean hasDigits;          // the current value has at least one digit
+        private int number;                 // the current value so far, negated
+        private boolean commaAllowed;       // a value ended and no comma followed it yet
+        private boolean valueRequired;      // a comma was read, so a value must come
+
+        Parser(ArrayIntList target) {
+            this.target = target;
+        }
+
+        void parse(char[] chars, int from, int to) {
+            boolean inNumber = this.inNumber;
+            boolean negative = this.negative;
+            boolean hasDigits = this.hasDigits;
+            int number = this.number;
+            int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+            for (int i = from; i < to; i++) {
+                char c = chars[i];
+                if (inNumber) {
+                    if (c >= '0' && c <= '9') {
+                        int digit = c - '0';
+                        if (number < MULTIPLY_LIMIT || number * 10 < limit + digit) {
+                            throw error("Value out of int range", i);
+                        }
+                        number = number * 10 - digit;
+                        hasDigits = true;
+                        continue;
+                    }
+                    if (!hasDigits) {
+                        throw error("Sign without digits", i);
+                    }
+                    target.addBack(negative ? number : -number);
+                    inNumber = false;
+                    commaAllowed = true;
+                    valueRequired = false;
+                    if (c == '-' || c == '+') {
+                        throw error("Unexpected '" + c + "'", i);
+                    }
+                }
+                if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                    continue;
+                }
+                if (closed) {
+                    throw error("Unexpected '" + c + "' after ']'", i);
+                }
+                if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+                    inNumber = true;
+                    negative = (c == '-');
+                    limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+                    hasDigits = (c >= '0');
+                    number = (c >= '0') ? '0' - c : 0;
+                } else if (c == ',') {
+                    if (!commaAllowed) {
+                        throw error("Unexpected ','", i);
+                    }
+                    commaAllowed = false;
+                    valueRequired = true;
+                } else if (c == '[' && !started) {
+                    bracketed = true;
+                } else if (c == ']' && bracketed && !valueRequired) {
+                    closed = true;
+                } else {
+                    throw error("Unexpected '" + c + "'", i);
+                }
+                started = true;
+            }
+            this.inNumber = inNumber;
+            this.negative = negative;
+            this.hasDigits = hasDigits;
+            this.number = number;
+            offset += to - from;
+        }
+
+        void finish() {
+            if (inNumber) {
+                if (!hasDigits) {
+                    throw error("Sign without digits", 0);
+                }
+                target.addBack(negative ? number : -number);
+                inNumber = false;
+                valueRequired = false;
+            }
+            if (valueRequired) {
+                throw error("Missing value after ','", 0);
+            }
+            if (bracketed && !closed) {
+                throw error("Missing ']'", 0);
+            }
+        }
+
+        private NumberFormatException error(String message, int indexInChunk) {
+            return new NumberFormatException(message + " at offset " + (offset + indexInChunk));
+        }
+    }
+}       // end of IntListText
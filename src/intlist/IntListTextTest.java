@@ -0,0 +1,155 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntListTextTest {
+
+    private static final int[] EDGES = {0, 1, -1, 9, 10, -10, 99, 100, -100, 12345, -98765,
+            999999999, 1000000000, -1000000000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+    @Test
+    void formatsLikeToString() throws IOException {
+        Random random = new Random(25);
+        for (int i = 0; i < 10000; i++) {
+            int value = (i % 2 == 0) ? random.nextInt() : random.nextInt(2000) - 1000;
+            char[] chars = new char[11];
+            int length = IntListText.putInt(value, chars, 0);
+            assertEquals(Integer.toString(value), new String(chars, 0, length));
+        }
+        for (IntList list : new IntList[] {new ArrayIntList(), new LinkedIntList(), new ConcurrentIntList()}) {
+            StringBuilder empty = new StringBuilder();
+            list.appendTo(empty);
+            assertEquals("[]", empty.toString());
+
+            list.addAll(EDGES);
+            StringBuilder sb = new StringBuilder("x");
+            list.appendTo(sb);
+            assertEquals("x" + Arrays.toString(EDGES), sb.toString());
+            assertEquals(list.toString(), sb.substring(1));
+        }
+    }
+
+    @Test
+    void writesLargeListsInChunks() throws IOException {
+        int[] values = new Random(7).ints(50000).toArray();
+        ArrayIntList list = new ArrayIntList();
+        list.addAll(values);
+        String expected = Arrays.toString(values);
+
+        StringWriter writer = new StringWriter();
+        list.writeText(writer);
+        assertEquals(expected, writer.toString());
+
+        // a plain Appendable gets the text through append(CharSequence, int, int)
+        StringBuffer buffer = new StringBuffer();
+        list.appendTo(buffer);
+        assertEquals(expected, buffer.toString());
+    }
+
+    @Test
+    void closingBracketFitsAFullChunk() throws IOException {
+        // "[1" and 630 times ", -2147483648" fill a chunk to the last char before the ']'
+        for (int count = 625; count < 635; count++) {
+            ArrayIntList list = new ArrayIntList();
+            list.addBack(1);
+            for (int i = 0; i < count; i++) {
+                list.addBack(Integer.MIN_VALUE);
+            }
+            StringBuilder sb = new StringBuilder();
+            list.appendTo(sb);
+            assertEquals(list.toString(), sb.toString());
+            StringWriter writer = new StringWriter();
+            list.writeText(writer);
+            assertEquals(list.toString(), writer.toString());
+        }
+    }
+
+    @Test
+    void parsesWhatToStringWrites() throws IOException {
+        int[] values = new Random(11).ints(40000).toArray();
+        LinkedIntList list = new LinkedIntList();
+        list.addAll(values);
+        list.addAll(EDGES);
+        String text = list.toString();
+
+        ArrayIntList parsed = IntList.parse(text);
+        assertArrayEquals(list.toArray(), parsed.toArray());
+        // sized once from the first chunk: never grown by doubling
+        assertTrue(parsed.capacity() >= list.size() && parsed.capacity() < list.size() * 1.1,
+                "capacity " + parsed.capacity());
+        assertArrayEquals(list.toArray(), IntList.parse(new StringBuilder(text)).toArray());
+        assertArrayEquals(list.toArray(), IntList.parse(new StringReader(text)).toArray());
+    }
+
+    @Test
+    void acceptsOtherSeparators() throws IOException {
+        int[] expected = {1, -2, 3, 40};
+        assertArrayEquals(expected, IntList.parse("1 -2 3 40").toArray());
+        assertArrayEquals(expected, IntList.parse("1,-2,3,+40").toArray());
+        assertArrayEquals(expected, IntList.parse(" [ 1 ,\n-2,\t3\r\n 40 ] \n").toArray());
+        assertArrayEquals(expected, IntList.parse(new StringReader("1\n-2\n3\n40\n")).toArray());
+        assertEquals(0, IntList.parse("").size());
+        assertEquals(0, IntList.parse("  [ ]  ").size());
+        assertArrayEquals(new int[] {-2147483648, 2147483647, 0},
+                IntList.parse("-2147483648 2147483647 -0").toArray());
+    }
+
+    @Test
+    void rejectsMalformedText() {
+        String[] bad = {"[1, 2", "1, 2]", "[1,, 2]", "[1, 2,]", ",1", "1 2 [3]", "[1] 2", "1-2", "1 - 2",
+                "+", "[-]", "1.5", "0x10", "a", "2147483648", "-2147483649", "99999999999"};
+        for (String text : bad) {
+            assertThrows(NumberFormatException.class, () -> IntList.parse(text), text);
+            assertThrows(NumberFormatException.class, () -> IntList.parse(new StringReader(text)), text);
+        }
+        NumberFormatException e = assertThrows(NumberFormatException.class, () -> IntList.parse("[1, 2, x]"));
+        assertTrue(e.getMessage().contains("offset 7"), e.getMessage());
+    }
+
+    @Test
+    void parsesReaderInBoundedMemory() throws IOException {
+        // about 2 million chars, handed out a few chars at a time so values straddle reads
+        int count = 200000;
+        Reader reader = new Reader() {
+            private int next = 0;
+            private String pending = "[";
+
+            @Override
+            public int read(char[] chars, int offset, int length) {
+                if (pending.isEmpty()) {
+                    if (next > count) {
+                        return -1;
+                    }
+                    pending = (next < count) ? (next - count / 2) * 7919 + ", " : "]";
+                    if (next == count - 1) {
+                        pending = String.valueOf((next - count / 2) * 7919);
+                    }
+                    next++;
+                }
+                int n = Math.min(Math.min(length, 3), pending.length());
+                pending.getChars(0, n, chars, offset);
+                pending = pending.substring(n);
+                return n;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ArrayIntList parsed = IntList.parse(reader);
+        assertEquals(count, parsed.size());
+        for (int i = 0; i < count; i += 997) {
+            assertEquals((i - count / 2) * 7919, parsed.get(i));
+        }
+        assertEquals((count - 1 - count / 2) * 7919, parsed.get(count - 1));
+    }
+}
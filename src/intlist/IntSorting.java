@@ -0,0 +1,81 @@
+package intlist;
+
+import java.util.Arrays;
+
+/**
+ * Sorting a range of an int[] with an IntComparator, shared by the
+ * array-backed lists. Ascending order needs none of this: Arrays.sort
+ * (dual-pivot quicksort) and Arrays.parallelSort are faster there.
+ *
+ * The sort is a bottom-up merge sort: runs of RUN values are sorted by
+ * insertion, then merged in passes of doubling width between the range
+ * and one work array. It is stable, so values the comparator calls equal
+ * keep their order, and takes O(n log n) time and O(n) extra space.
+ */
+final class IntSorting {
+
+    // runs of this many values are sorted by insertion before merging
+    private final static int RUN = 32;
+
+    private IntSorting() {
+    }
+
+    /**
+     * Sorts a[from..to) by the comparator.
+     */
+    static void sort(int[] a, int from, int to, IntComparator comparator) {
+        if (comparator == null) {
+            throw new NullPointerException();
+        }
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        int[] source = Arrays.copyOfRange(a, from, to);
+        for (int lo = 0; lo < n; lo += RUN) {
+            insertionSort(source, lo, Math.min(lo + RUN, n), comparator);
+        }
+        int[] target = (n > RUN) ? new int[n] : null;
+        for (long width = RUN; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += (int) Math.min(2 * width, n - lo)) {
+                int mid = (int) Math.min(lo + width, n);
+                int hi = (int) Math.min(lo + 2 * width, n);
+                merge(source, target, lo, mid, hi, comparator);
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        System.arraycopy(source, 0, a, from, n);
+    }
+
+    private static void insertionSort(int[] a, int from, int to, IntComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int value = a[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(a[j], value) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    // merges the sorted runs source[lo..mid) and source[mid..hi) into target[lo..hi)
+    private static void merge(int[] source, int[] target, int lo, int mid, int hi, IntComparator comparator) {
+        if (mid == hi || comparator.compare(source[mid - 1], source[mid]) <= 0) {
+            // already in order (or no right run): nothing to interleave
+            System.arraycopy(source, lo, target, lo, hi - lo);
+            return;
+        }
+        int left = lo;
+        int right = mid;
+        for (int i = lo; i < hi; i++) {
+            if (right >= hi || (left < mid && comparator.compare(source[left], source[right]) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+}       // end of IntSorting
@@ -0,0 +1,936 @@
+package intlist;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+public class LinkedIntList implements IntList {
+    // helper inner/nested class
+    public class Node {
+        int data;                   // holds the data value
+        Node next;                  // holds address of next node
+        Node prev;                  // holds address of previous node
+
+        public Node() {
+            data = 0;
+            next = null;
+            prev = null;
+        }
+
+
+        // T = 2 is O(1) constant time
+        public Node(int data, Node next) {
+            this.data = data;
+            this.next = next;
+        }
+
+        // T = 3 is O(1) constant time
+        public Node(Node prev, int data, Node next) {
+            this.prev = prev;
+            this.data = data;
+            this.next = next;
+        }
+    }   // end of class Node
+
+    // fields for LinkedIntList class
+    private Node head;              // address of first Node in list
+    private Node tail;              // address of last Node in list
+    private int size;               // number of nodes/items in list
+    private IntListMetrics metrics; // optional usage counters, null if off; see setMetrics()
+
+    // the "finger": the node reached by the last positional walk, and its index,
+    // so that get(i + 1) after get(i) follows one link instead of i + 1
+    private Node finger;            // null when there is no finger
+    private int fingerIndex;        // index of finger, kept up to date by every change
+
+    /*
+    *  T = 3 is O(1) constant time
+    */
+
+    public LinkedIntList() {
+        head = null;
+        tail = null;
+        size = 0;
+
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * O(1) constant time
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        Node newNode = new Node(null, value, head);
+        if (head == null) {
+            // the list was empty, so the new node is also the last node
+            tail = newNode;
+        } else {
+            head.prev = newNode;
+        }
+        head = newNode;
+        if (finger != null) {
+            fingerIndex++;
+        }
+
+        size++;
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * O(1) constant time - tail already references the last node,
+     * so there is no need to walk the list to find it
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        Node newNode = new Node(tail, value, null);
+        if (tail == null) {
+            // the list was empty, so the new node is also the first node
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+
+        size++;
+    }
+
+    /**
+     * Returns the node at the specified position. Walks from head, from
+     * tail or from the finger, whichever is closest, and leaves the finger
+     * on the node it returns. A loop over get(i) with i going up (or down)
+     * by one therefore follows one link per call, and is linear overall.
+     * The index must already have been checked by the caller.
+     */
+    private Node node(int index) {
+        Node current = head;
+        int position = 0;
+        int distance = index;
+        if (size - 1 - index < distance) {
+            current = tail;
+            position = size - 1;
+            distance = size - 1 - index;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < distance) {
+            current = finger;
+            position = fingerIndex;
+            distance = Math.abs(index - fingerIndex);
+        }
+        for (; position < index; position++) {
+            current = current.next;
+        }
+        for (; position > index; position--) {
+            current = current.prev;
+        }
+        if (metrics != null) {
+            metrics.recordTraversal(distance);
+        }
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+
+    /**
+     * Makes this list report how many links it follows to reach an index
+     * (and to find a value in indexOf) into the given metrics, for example
+     * those of an InstrumentedIntList. Costs one null check per walk when off.
+     *
+     * @param metrics the metrics to report to, or null to stop reporting
+     */
+    public void setMetrics(IntListMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the metrics this list reports to, or null if it reports to none
+     */
+    public IntListMetrics getMetrics() {
+        return metrics;
+    }
+
+    // unlinks a node from the list, fixing head, tail and the finger as needed
+    private int unlink(Node node) {
+        if (node == finger) {
+            // move to the neighbour that takes over the index, or the one before it
+            if (node.next != null) {
+                finger = node.next;
+            } else {
+                finger = node.prev;
+                fingerIndex--;
+            }
+        } else if (node == head) {
+            fingerIndex--;              // (harmless when there is no finger)
+        } else if (node != tail) {
+            finger = null;              // somewhere unknown, so the index may be off
+        }
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        size--;
+        return node.data;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * O(n) linear, but walks from whichever end is closer to the index
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == 0) {
+            addFront(value);
+            return;
+        }
+        if (index == size) {
+            addBack(value);
+            return;
+        }
+        linkBefore(value, node(index), index);
+    }
+
+    // inserts a new node in front of a node that is not head; index is where the new node ends up
+    private void linkBefore(int value, Node successor, int index) {
+        Node newNode = new Node(successor.prev, value, successor);
+        successor.prev.next = newNode;
+        successor.prev = newNode;
+        size++;
+        finger = newNode;
+        fingerIndex = index;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        unlink(head);
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     *
+     * O(1) constant time - the node before tail is tail.prev
+     */
+    @Override
+    public void removeBack() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        unlink(tail);
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(node(index));
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * O(n) linear - to get an item at an index, I have to start
+     * at the head (or the tail, if it is closer) and walk up to
+     * size / 2 positions over
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return node(index).data;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        Node current = head;
+        while (current != null) {
+            if (current.data == value) {
+                return true;
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        Node current = head;
+        int index = 0;
+        while (current != null) {
+            if (current.data == value) {
+                if (metrics != null) {
+                    metrics.recordTraversal(index);
+                }
+                return index;
+            }
+            current = current.next;
+            index++;
+        }
+        if (metrics != null) {
+            metrics.recordTraversal(size);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * Walks backwards from tail, so it stops at the last occurrence.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        Node current = tail;
+        int index = size - 1;
+        while (current != null) {
+            if (current.data == value) {
+                return index;
+            }
+            current = current.prev;
+            index--;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return  size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        finger = null;
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        linkAll(size, values);
+    }
+
+    /**
+     * Appends all the values of the specified list, in order, at the back
+     * of this list. The other list is not changed (it may be this list).
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other) {
+        linkAll(size, other.toArray());
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right by values.length.
+     *
+     * Walks to the index once, not once per inserted value.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        linkAll(index, values);
+    }
+
+    /*
+     * Builds a chain of new nodes holding the values, then splices
+     * the whole chain in front of the node at index (or after tail
+     * when index == size) by fixing up just two pairs of links.
+     */
+    private void linkAll(int index, int[] values) {
+        if (values.length == 0) {
+            return;
+        }
+        Node first = new Node(null, values[0], null);
+        Node last = first;
+        for (int i = 1; i < values.length; i++) {
+            last.next = new Node(last, values[i], null);
+            last = last.next;
+        }
+
+        Node after = (index == size) ? null : node(index);
+        Node before = (after == null) ? tail : after.prev;
+        first.prev = before;
+        last.next = after;
+        if (before == null) {
+            head = first;
+        } else {
+            before.next = first;
+        }
+        if (after == null) {
+            tail = last;
+        } else {
+            after.prev = last;
+        }
+        size += values.length;
+        if (finger != null && fingerIndex >= index) {
+            fingerIndex += values.length;
+        }
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        Node current = head;
+        for (int i = 0; i < size; i++) {
+            result[i] = current.data;
+            current = current.next;
+        }
+        return result;
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive). Shifts any subsequent values to the left.
+     *
+     * Walks to fromIndex once and cuts the whole run of nodes out
+     * with a single splice.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Node first = node(fromIndex);
+        Node last = first;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            last = last.next;
+        }
+
+        Node before = first.prev;
+        Node after = last.next;
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        if (after == null) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        size -= toIndex - fromIndex;
+        // node() left the finger on the first removed node
+        finger = after;
+        fingerIndex = fromIndex;
+    }
+
+    /**
+     * Removes every value that satisfies the given predicate, keeping the
+     * order of the others.
+     *
+     * O(n) linear: one walk from head, unlinking each matching node where
+     * it is instead of walking again for every remove(index).
+     *
+     * @param filter returns true for the values to be removed
+     * @return true if any value was removed
+     * @throws NullPointerException if the filter is null
+     */
+    @Override
+    public boolean removeIf(IntPredicate filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int oldSize = size;
+        Node current = head;
+        while (current != null) {
+            Node next = current.next;
+            if (filter.test(current.data)) {
+                unlink(current);
+            }
+            current = next;
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Replaces each value with the result of applying the operator to it,
+     * front to back, in place.
+     *
+     * O(n) linear
+     *
+     * @param operator the operator to apply to each value
+     * @throws NullPointerException if the operator is null
+     */
+    @Override
+    public void replaceAll(IntUnaryOperator operator) {
+        if (operator == null) {
+            throw new NullPointerException();
+        }
+        Node current = head;
+        while (current != null) {
+            current.data = operator.applyAsInt(current.data);
+            current = current.next;
+        }
+    }
+
+    /**
+     * Sorts the values of this list in ascending order.
+     *
+     * O(n log n) - see sort(IntComparator)
+     */
+    @Override
+    public void sort() {
+        mergeSort(Integer::compare);
+    }
+
+    /**
+     * Sorts the values of this list in the order the comparator gives,
+     * keeping values the comparator calls equal in their order.
+     *
+     * O(n log n) - a bottom-up merge sort that relinks the existing nodes:
+     * no node is allocated and the values stay in their nodes. The only
+     * extra memory is a fixed array of 32 run heads.
+     *
+     * @param comparator decides the order of two values
+     * @throws NullPointerException if the comparator is null
+     */
+    @Override
+    public void sort(IntComparator comparator) {
+        if (comparator == null) {
+            throw new NullPointerException();
+        }
+        mergeSort(comparator);
+    }
+
+    /**
+     * Sorts the values of this list in ascending order. A linked list
+     * cannot be split up cheaply, so this is the same as sort().
+     */
+    @Override
+    public void parallelSort() {
+        sort();
+    }
+
+    /*
+     * Bottom-up merge sort along the next links, done depth first: the
+     * nodes are taken off the list one at a time, and pending[i] holds a
+     * sorted run of 2^i nodes (or null). A new node is merged with pending[0],
+     * the result with pending[1], and so on, like adding 1 to a binary
+     * counter. Runs are merged soon after they are built, while their nodes
+     * are still in the CPU cache, instead of walking the whole list once per
+     * doubling of the run width. The only allocation is pending itself (32
+     * references, enough for 2^32 nodes). Prev links and tail are fixed in
+     * one final walk.
+     */
+    private void mergeSort(IntComparator comparator) {
+        if (size < 2) {
+            return;
+        }
+        Node[] pending = new Node[32];
+        Node current = head;
+        while (current != null) {
+            Node run = current;
+            current = current.next;
+            run.next = null;
+            int i = 0;
+            for (; pending[i] != null; i++) {
+                // pending[i] holds earlier nodes, so it goes on the left (stable)
+                run = merge(pending[i], run, comparator);
+                pending[i] = null;
+            }
+            pending[i] = run;
+        }
+        Node list = null;
+        for (Node run : pending) {
+            if (run != null) {
+                list = (list == null) ? run : merge(run, list, comparator);
+            }
+        }
+
+        head = list;
+        Node before = null;
+        for (Node node = head; node != null; node = node.next) {
+            node.prev = before;
+            before = node;
+        }
+        tail = before;
+        finger = null;
+    }
+
+    // merges two sorted, null-terminated runs along the next links; left wins ties
+    private static Node merge(Node left, Node right, IntComparator comparator) {
+        Node first;
+        if (comparator.compare(left.data, right.data) <= 0) {
+            first = left;
+            left = left.next;
+        } else {
+            first = right;
+            right = right.next;
+        }
+        Node last = first;
+        while (left != null && right != null) {
+            if (comparator.compare(left.data, right.data) <= 0) {
+                last.next = left;
+                last = left;
+                left = left.next;
+            } else {
+                last.next = right;
+                last = right;
+                right = right.next;
+            }
+        }
+        last.next = (left != null) ? left : right;
+        return first;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        // LinkedIterator iterator = new LinkedIterator();
+        // return iterator;
+        return new LinkedIterator();
+    }
+
+    /**
+     * Returns a cursor over this list that starts in front of the value at
+     * the specified index. The cursor holds on to a node, so moving it and
+     * setting, adding or removing where it stands are all O(1); only
+     * getting to the starting index walks the list (from the closest of
+     * head, tail and the finger).
+     *
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before that value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public IntListIterator listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new LinkedListIterator(index);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        Node current = head;
+        while (current != null) {
+            action.accept(current.data);
+            current = current.next;
+        }
+    }
+
+    // helper method
+    public void print() {
+        // create a temp variable (almost like an index i)
+        // copy in the address from head and save it
+        Node current = head;
+
+        while (current != null) {
+            // print the value inside the Node
+            System.out.println(current.data);
+
+            // go to the next node
+            current = current.next;
+
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (head == null) {
+            // if list is empty, indicate with []
+            return "[]";
+        }
+
+        // if I get here, the list is not empty
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        Node current = head;
+
+        // stop one before the last node
+        while (current.next != null) {
+            sb.append(current.data);
+            sb.append(", ");
+
+            current = current.next;
+        }
+
+        // add in the last node
+        sb.append(current.data);
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+
+    public class LinkedIterator implements IntIterator {
+        // keep track of my current position
+        private Node current;           // holds address of current node
+        private Node lastReturned;      // node of the last nextInt(), null after remove()
+
+        public LinkedIterator() {
+            // start the current position at the first node in list
+            current = head;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return (current != null);
+//            if (current == null) {
+//                return false;
+//            }
+//            else {
+//                return true;
+//            }
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = current;
+            current = current.next;
+            return lastReturned.data;
+        }
+
+        /**
+         * Removes from the list the last value returned by nextInt().
+         * Unlinks the node in place, O(1) constant time.
+         *
+         * @throws IllegalStateException if nextInt() has not been called,
+         * or remove() has already been called after the last nextInt()
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+        }
+    }
+
+    // nested or inner class (helper class)
+    public class LinkedListIterator implements IntListIterator {
+        private Node next;              // node nextInt() returns, null at the back
+        private int nextIndex;          // index of next
+        private Node lastReturned;      // node of the last nextInt() or previousInt(), null if none
+
+        public LinkedListIterator(int index) {
+            next = (index == size) ? null : node(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public int previousInt() {
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        /**
+         * Unlinks the node of the last value returned, O(1) constant time.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (lastReturned == next) {
+                // returned by previousInt(): the cursor moves on to the node after it
+                next = next.next;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+        }
+
+        /**
+         * Overwrites the value of the last node returned, O(1) constant time.
+         */
+        @Override
+        public void set(int value) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            lastReturned.data = value;
+        }
+
+        /**
+         * Links a new node in front of the cursor, O(1) constant time.
+         */
+        @Override
+        public void add(int value) {
+            if (next == null) {
+                addBack(value);
+            } else if (next == head) {
+                addFront(value);
+            } else {
+                linkBefore(value, next, nextIndex);
+            }
+            nextIndex++;
+            lastReturned = null;
+        }
+    }
+
+}
@@ -0,0 +1,388 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedIntListTest {
+
+    @Test
+    void addFront() {
+    }
+
+    @Test
+    void addBack() {
+        LinkedIntList theList = new LinkedIntList();
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);
+        }
+        theList.addFront(-1);
+
+        assertEquals("[-1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", theList.toString());
+        assertEquals(11, theList.size());
+    }
+
+    @Test
+    void add() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.add(0, 1);
+        theList.add(1, 3);
+        theList.add(1, 2);
+        theList.add(3, 4);
+        theList.add(0, 0);
+
+        assertEquals("[0, 1, 2, 3, 4]", theList.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.add(6, 0));
+    }
+
+    @Test
+    void removeFront() {
+    }
+
+    @Test
+    void removeBack() {
+        LinkedIntList theList = new LinkedIntList();
+        assertThrows(NoSuchElementException.class, theList::removeBack);
+
+        theList.addBack(1);
+        theList.addBack(2);
+        theList.removeBack();
+        theList.removeBack();
+        assertTrue(theList.isEmpty());
+
+        // the list must still work at both ends after becoming empty
+        theList.addBack(3);
+        theList.addFront(2);
+        assertEquals("[2, 3]", theList.toString());
+    }
+
+    @Test
+    void remove() {
+        LinkedIntList theList = new LinkedIntList();
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);
+        }
+
+        assertEquals(8, theList.remove(8));     // closer to the back
+        assertEquals(1, theList.remove(1));     // closer to the front
+        assertEquals(9, theList.remove(7));     // the last node
+        assertEquals("[0, 2, 3, 4, 5, 6, 7]", theList.toString());
+
+        theList.addBack(10);
+        assertEquals(10, theList.get(theList.size() - 1));
+    }
+
+    @Test
+    void addAll() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.addAll(new int[] {0, 1, 5, 6});
+        theList.addAll(2, new int[] {2, 3, 4});
+        theList.addAll(0, new int[] {-1});
+        theList.addAll(theList);
+
+        assertEquals("[-1, 0, 1, 2, 3, 4, 5, 6, -1, 0, 1, 2, 3, 4, 5, 6]", theList.toString());
+        assertEquals(16, theList.size());
+        assertEquals(6, theList.get(15));
+    }
+
+    @Test
+    void toArrayAndRemoveRange() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.addAll(new int[] {0, 1, 2, 3, 4, 5, 6});
+        theList.removeRange(2, 5);
+        assertArrayEquals(new int[] {0, 1, 5, 6}, theList.toArray());
+
+        theList.removeRange(2, 4);
+        theList.addBack(7);
+        theList.removeRange(0, 1);
+        assertArrayEquals(new int[] {1, 7}, theList.toArray());
+
+        theList.removeRange(0, 2);
+        assertTrue(theList.isEmpty());
+        theList.addBack(8);
+        assertEquals("[8]", theList.toString());
+    }
+
+    @Test
+    void get() {
+        LinkedIntList theList = new LinkedIntList();
+        for (int i = 0; i < 11; i++) {
+            theList.addBack(i * 10);
+        }
+
+        for (int i = 0; i < 11; i++) {
+            assertEquals(i * 10, theList.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.get(11));
+    }
+
+    @Test
+    void contains() {
+    }
+
+    @Test
+    void indexOf() {
+    }
+
+    @Test
+    void isEmpty() {
+    }
+
+    @Test
+    void size() {
+    }
+
+    @Test
+    void clear() {
+    }
+
+    @Test
+    void iterator() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.addFront(9);
+        theList.addFront(7);
+        theList.addFront(4);
+
+        IntIterator itr = theList.iterator();
+        assertEquals(4, itr.nextInt());
+        assertEquals(7, itr.nextInt());
+        assertEquals(9, itr.nextInt());
+        assertFalse(itr.hasNext());
+        assertThrows(java.util.NoSuchElementException.class, itr::nextInt);
+    }
+
+    @Test
+    void forEachInt() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.addFront(9);
+        theList.addFront(7);
+        theList.addFront(4);
+        theList.addBack(18);
+
+        StringBuilder sb = new StringBuilder();
+        theList.forEachInt(value -> sb.append(value).append(' '));
+
+        assertEquals("4 7 9 18 ", sb.toString());
+    }
+
+    @Test
+    void streamSplitsByBatch() {
+        LinkedIntList theList = new LinkedIntList();
+        for (int i = 1; i <= 100_000; i++) {
+            theList.addBack(i);
+        }
+
+        Spliterator.OfInt all = theList.spliterator();
+        assertTrue(all.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        assertEquals(100_000, all.estimateSize());
+        assertNotNull(all.trySplit());          // a batch taken off the front
+
+        assertEquals(5_000_050_000L, theList.stream().asLongStream().sum());
+        assertEquals(5_000_050_000L, theList.parallelStream().asLongStream().sum());
+        assertArrayEquals(theList.toArray(), theList.parallelStream().map(v -> v).toArray());
+    }
+
+    @Test
+    void removeIfUnlinksInPlace() {
+        LinkedIntList theList = new LinkedIntList();
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);
+        }
+
+        assertTrue(theList.removeIf(value -> value % 2 == 0));
+        assertFalse(theList.removeIf(value -> value > 100));
+        assertEquals("[1, 3, 5, 7, 9]", theList.toString());
+        assertEquals(5, theList.size());
+
+        assertTrue(theList.removeAll(1, 9));            // both ends
+        assertEquals("[3, 5, 7]", theList.toString());
+        theList.addBack(11);
+        assertEquals(11, theList.get(3));
+
+        LinkedIntList keep = new LinkedIntList();
+        keep.addBack(5);
+        assertTrue(theList.retainAll(keep));
+        assertEquals("[5]", theList.toString());
+
+        theList.replaceAll(value -> -value);
+        assertEquals("[-5]", theList.toString());
+        assertTrue(theList.removeIf(value -> true));
+        assertTrue(theList.isEmpty());
+        assertEquals("[]", theList.toString());
+    }
+
+    @Test
+    void iteratorRemove() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.addAll(new int[] {1, 2, 3, 4});
+
+        IntIterator itr = theList.iterator();
+        assertThrows(IllegalStateException.class, itr::remove);
+        while (itr.hasNext()) {
+            if (itr.nextInt() != 3) {
+                itr.remove();
+            }
+        }
+        assertThrows(IllegalStateException.class, itr::remove);
+        assertEquals("[3]", theList.toString());
+        assertEquals(1, theList.size());
+    }
+
+    @Test
+    void sequentialGetFollowsOneLinkPerCall() {
+        LinkedIntList theList = new LinkedIntList();
+        for (int i = 0; i < 10_000; i++) {
+            theList.addBack(i);
+        }
+        IntListMetrics metrics = new IntListMetrics();
+        theList.setMetrics(metrics);
+
+        long sum = 0;
+        for (int i = 0; i < theList.size(); i++) {
+            sum += theList.get(i);
+        }
+        for (int i = theList.size() - 1; i >= 0; i--) {
+            sum += theList.get(i);
+        }
+
+        assertEquals(2L * 49_995_000, sum);
+        assertTrue(metrics.snapshot().traversalSteps() < 3 * 10_000);
+    }
+
+    @Test
+    void fingerStaysRightThroughChanges() {
+        LinkedIntList theList = new LinkedIntList();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(21);
+        for (int step = 0; step < 20_000; step++) {
+            int size = expected.size();
+            int index = random.nextInt(size + 1);
+            switch (random.nextInt(9)) {
+                case 0: theList.addFront(step); expected.add(0, step); break;
+                case 1: theList.addBack(step); expected.add(step); break;
+                case 2: theList.add(index, step); expected.add(index, step); break;
+                case 3:
+                    if (size > 0) {
+                        theList.removeFront();
+                        expected.remove(0);
+                    }
+                    break;
+                case 4:
+                    if (size > 0) {
+                        theList.removeBack();
+                        expected.remove(size - 1);
+                    }
+                    break;
+                case 5:
+                    if (index < size) {
+                        assertEquals((int) expected.remove(index), theList.remove(index));
+                    }
+                    break;
+                case 6:
+                    theList.addAll(index, new int[] {step, step});
+                    expected.add(index, step);
+                    expected.add(index, step);
+                    break;
+                case 7:
+                    int to = Math.min(size, index + random.nextInt(3));
+                    theList.removeRange(index, to);
+                    expected.subList(index, to).clear();
+                    break;
+                default:
+                    if (index < size) {
+                        assertEquals((int) expected.get(index), theList.get(index));
+                    }
+            }
+            if (step % 1000 == 0) {
+                theList.removeIf(value -> value % 7 == 0);
+                expected.removeIf(value -> value % 7 == 0);
+            }
+        }
+
+        assertEquals(expected.size(), theList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((int) expected.get(i), theList.get(i));
+        }
+    }
+
+    @Test
+    void listIteratorChangesInPlace() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.addAll(new int[] {1, 2, 3, 4, 5});
+
+        IntListIterator cursor = theList.listIterator();
+        assertFalse(cursor.hasPrevious());
+        assertThrows(IllegalStateException.class, () -> cursor.set(0));
+        while (cursor.hasNext()) {
+            int value = cursor.nextInt();
+            if (value % 2 == 0) {
+                cursor.remove();
+            } else {
+                cursor.set(value * 10);
+                cursor.add(value * 10 + 1);
+            }
+        }
+        assertEquals("[10, 11, 30, 31, 50, 51]", theList.toString());
+        assertEquals(6, cursor.nextIndex());
+
+        assertEquals(51, cursor.previousInt());
+        assertEquals(50, cursor.previousInt());
+        cursor.remove();                        // the cursor stays in front of 51
+        assertEquals(4, cursor.nextIndex());
+        assertEquals(51, cursor.nextInt());
+        assertEquals("[10, 11, 30, 31, 51]", theList.toString());
+
+        IntListIterator fromMiddle = theList.listIterator(2);
+        assertEquals(1, fromMiddle.previousIndex());
+        fromMiddle.add(20);
+        assertEquals(20, fromMiddle.previousInt());
+        assertEquals("[10, 11, 20, 30, 31, 51]", theList.toString());
+        assertEquals(6, theList.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> theList.listIterator(7));
+    }
+
+    @Test
+    void sortRelinksNodes() {
+        java.util.Random random = new java.util.Random(23);
+        for (int size : new int[] {0, 1, 2, 3, 17, 1000, 4097}) {
+            int[] values = random.ints(size, -50, 50).toArray();
+            LinkedIntList theList = new LinkedIntList();
+            theList.addAll(values);
+            if (size > 0) {
+                theList.get(size / 2);          // leave a finger behind
+            }
+            int[] expected = values.clone();
+            java.util.Arrays.sort(expected);
+
+            theList.sort();
+            assertArrayEquals(expected, theList.toArray());
+            if (size > 0) {
+                assertEquals(expected[size / 2], theList.get(size / 2));
+                assertEquals(expected[size - 1], theList.get(size - 1));
+                theList.addBack(100);           // tail was fixed up
+                theList.addFront(-100);
+                assertEquals(size + 2, theList.size());
+            }
+            IntListIterator backwards = theList.listIterator(theList.size());
+            int count = 0;
+            int previous = Integer.MAX_VALUE;
+            while (backwards.hasPrevious()) {   // prev links were fixed up
+                int value = backwards.previousInt();
+                assertTrue(value <= previous);
+                previous = value;
+                count++;
+            }
+            assertEquals(theList.size(), count);
+        }
+
+        LinkedIntList theList = new LinkedIntList();
+        theList.addAll(new int[] {3, 1, 2});
+        theList.sort(IntComparator.naturalOrder().reversed());
+        assertEquals("[3, 2, 1]", theList.toString());
+        theList.parallelSort();
+        assertEquals("[1, 2, 3]", theList.toString());
+    }
+}
@@ -1,7 +1,7 @@
-import java.util.Iterator;
-
 // Ahmad Reshad Yadgari SDEV301
 
+package intlist;
+
 public class Main {
     public static void main(String[] args) {
         System.out.println("Hello and welcome!");
@@ -22,19 +22,17 @@ public class Main {
         // Displaying the ArrayIntList
         System.out.println("ArrayIntList: " + list1);
 
-        // Iterating over ArrayIntList using enhanced for-loop
+        // Iterating over ArrayIntList with forEachInt (no boxing)
         System.out.println("Iterating over ArrayIntList:");
-        for (int value : list1) {
-            System.out.println(value);
-        }
+        list1.forEachInt(value -> System.out.println(value));
 
         System.out.println("---------");
 
         // Iterating over ArrayIntList using Iterator explicitly
         System.out.println("Iterating over ArrayIntList with Iterator:");
-        Iterator<Integer> itr = list1.iterator();
+        IntIterator itr = list1.iterator();
         while (itr.hasNext()) {
-            int value = itr.next();
+            int value = itr.nextInt();
             System.out.println(value);
         }
 
@@ -50,17 +48,15 @@ public class Main {
         // Displaying the LinkedIntList
         System.out.println("LinkedIntList: " + list2);
 
-        // Iterating over LinkedIntList using enhanced for-loop
+        // Iterating over LinkedIntList with forEachInt (no boxing)
         System.out.println("Iterating over LinkedIntList:");
-        for (int value : list2) {
-            System.out.println(value);
-        }
+        list2.forEachInt(value -> System.out.println(value));
 
         // Iterating over LinkedIntList using Iterator explicitly
         System.out.println("Iterating over LinkedIntList with Iterator:");
-        Iterator<Integer> itr2 = list2.iterator();
+        IntIterator itr2 = list2.iterator();
         while (itr2.hasNext()) {
-            int value = itr2.next(); // Corrected to retrieve the next value
+            int value = itr2.nextInt(); // Corrected to retrieve the next value
             System.out.println(value);
         }
     }
@@ -0,0 +1,455 @@
+package intlist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList stored in a memory-mapped file, so it survives the process.
+ *
+ * Opening an existing file maps it and the list is usable right away:
+ * nothing is read or copied up front, the operating system pages values in
+ * as they are first touched. Every change goes straight into the mapping,
+ * and force() writes the changes to the storage device, which makes it the
+ * checkpoint call.
+ *
+ * File layout (little-endian):
+ *   offset 0   magic number 0x4C544E49 ("INTL")
+ *   offset 4   format version (1)
+ *   offset 8   size, the number of values in the list (8 bytes)
+ *   offset 16  the values, 4 bytes each, followed by unused capacity
+ *
+ * The file grows by doubling its capacity and remapping it. A single mapping
+ * is limited to 2 GB, so the list holds at most MAX_CAPACITY values.
+ *
+ * Close the list when done with it. After close() any use of the list
+ * throws IllegalStateException.
+ */
+public class MappedIntList implements IntList, AutoCloseable {
+    // Internal (private) representation
+    private final FileChannel channel;
+    private MappedByteBuffer mapping;   // the whole file; null once closed
+    private IntBuffer values;           // int view of the mapping after the header
+    private int capacity;               // number of values the mapping has room for
+    private int size;                   // number of values in the list
+
+    private final static int MAGIC = 0x4C544E49;       // "INTL" read as a little-endian int
+    private final static int VERSION = 1;
+    private final static int HEADER_BYTES = 16;
+    private final static int SIZE_OFFSET = 8;
+    private final static int INITIAL_CAPACITY = 1024;
+
+    /**
+     * The most values one list can hold (one mapping is at most 2 GB).
+     */
+    public final static int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / Integer.BYTES;
+
+    /**
+     * Opens the list stored in the given file, creating an empty list
+     * (and the file) if the file does not exist or is empty.
+     *
+     * @param path the file holding the list
+     * @throws IOException if the file cannot be opened or mapped,
+     * or is not a list file
+     */
+    public MappedIntList(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                map(INITIAL_CAPACITY);
+                mapping.putInt(0, MAGIC);
+                mapping.putInt(4, VERSION);
+                writeSize(0);
+            } else {
+                if (fileSize < HEADER_BYTES || fileSize > HEADER_BYTES + (long) MAX_CAPACITY * Integer.BYTES) {
+                    throw new IOException("Not an IntList file: " + path);
+                }
+                map((int) ((fileSize - HEADER_BYTES) / Integer.BYTES));
+                if (mapping.getInt(0) != MAGIC || mapping.getInt(4) != VERSION) {
+                    throw new IOException("Not an IntList file: " + path);
+                }
+                long storedSize = mapping.getLong(SIZE_OFFSET);
+                if (storedSize < 0 || storedSize > capacity) {
+                    throw new IOException("Corrupt IntList file, size " + storedSize + ": " + path);
+                }
+                size = (int) storedSize;
+            }
+        } catch (IOException | RuntimeException e) {
+            DirectBuffers.free(mapping);
+            channel.close();
+            throw e;
+        }
+    }
+
+    /*
+     * Maps the header plus room for newCapacity values, growing the file if
+     * needed, and switches over to the new mapping. The old mapping is unmapped.
+     */
+    private void map(int newCapacity) throws IOException {
+        MappedByteBuffer newMapping = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_BYTES + (long) newCapacity * Integer.BYTES);
+        newMapping.order(ByteOrder.LITTLE_ENDIAN);
+        MappedByteBuffer oldMapping = mapping;
+        mapping = newMapping;
+        values = newMapping.slice(HEADER_BYTES, newCapacity * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        capacity = newCapacity;
+        DirectBuffers.free(oldMapping);
+    }
+
+    private void ensureOpen() {
+        if (mapping == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    // makes sure there is room for count more values, remapping at most once
+    private void ensureRoomFor(int count) {
+        long needed = (long) size + count;
+        if (needed <= capacity) {
+            return;
+        }
+        if (needed > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required size too large: " + needed);
+        }
+        try {
+            map((int) Math.min(Math.max(needed, 2L * capacity), MAX_CAPACITY));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not grow the list file", e);
+        }
+    }
+
+    // keeps the size in the file header up to date
+    private void writeSize(int newSize) {
+        size = newSize;
+        mapping.putLong(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Writes all changes made so far to the storage device, so they
+     * survive a crash of the process or of the machine.
+     */
+    public void force() {
+        ensureOpen();
+        mapping.force();
+    }
+
+    /**
+     * Unmaps and closes the file. Changes not yet written with force()
+     * are still written by the operating system in its own time.
+     * Closing the list again does nothing.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (mapping == null) {
+            return;
+        }
+        MappedByteBuffer oldMapping = mapping;
+        mapping = null;
+        values = null;
+        size = 0;
+        capacity = 0;
+        DirectBuffers.free(oldMapping);
+        channel.close();
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * Linear time - O(n), every value is shifted
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * Constant time - O(1) (amortized), the file doubles when it is full
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        ensureOpen();
+        ensureRoomFor(1);
+        values.put(size, value);
+        writeSize(size + 1);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureRoomFor(1);
+        for (int i = size; i > index; i--) {
+            values.put(i, values.get(i - 1));
+        }
+        values.put(index, value);
+        writeSize(size + 1);
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        remove(0);
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        writeSize(size - 1);
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int removedValue = values.get(index);
+        for (int i = index + 1; i < size; i++) {
+            values.put(i - 1, values.get(i));
+        }
+        writeSize(size - 1);
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values.get(index);
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (values.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     * The file keeps its length.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        writeSize(0);
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * Remaps at most once and copies the values in with one bulk put.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        ensureOpen();
+        ensureRoomFor(values.length);
+        this.values.put(size, values, 0, values.length);
+        writeSize(size + values.length);
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        ensureOpen();
+        int[] result = new int[size];
+        values.get(0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, from front to back.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        ensureOpen();
+        return new MappedIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            action.accept(values.get(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (mapping == null) {
+            return "[closed]";
+        }
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        sb.append(values.get(0));
+        for (int i = 1; i < size; i++) {
+            sb.append(", ").append(values.get(i));
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class MappedIterator implements IntIterator {
+        private int currentPosition;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < size;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         * @throws IllegalStateException if the list was closed
+         */
+        @Override
+        public int nextInt() {
+            ensureOpen();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return values.get(currentPosition++);
+        }
+    }
+
+}       // end of MappedIntList
@@ -0,0 +1,82 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedIntListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void newFileStartsEmpty() throws IOException {
+        try (MappedIntList theList = new MappedIntList(tempDir.resolve("list.bin"))) {
+            assertTrue(theList.isEmpty());
+            assertEquals("[]", theList.toString());
+        }
+    }
+
+    @Test
+    void valuesSurviveReopen() throws IOException {
+        Path file = tempDir.resolve("list.bin");
+        try (MappedIntList theList = new MappedIntList(file)) {
+            for (int i = 0; i < 5000; i++) {       // forces a few remaps
+                theList.addBack(i);
+            }
+            theList.removeFront();
+            theList.force();
+        }
+
+        try (MappedIntList theList = new MappedIntList(file)) {
+            assertEquals(4999, theList.size());
+            assertEquals(1, theList.get(0));
+            assertEquals(4999, theList.get(4998));
+            theList.addBack(5000);
+        }
+
+        try (MappedIntList theList = new MappedIntList(file)) {
+            assertEquals(5000, theList.get(theList.size() - 1));
+        }
+    }
+
+    @Test
+    void addAndRemoveAtIndex() throws IOException {
+        try (MappedIntList theList = new MappedIntList(tempDir.resolve("list.bin"))) {
+            theList.addAll(new int[] {1, 2, 4});
+            theList.add(2, 3);
+            theList.addFront(0);
+            assertEquals("[0, 1, 2, 3, 4]", theList.toString());
+
+            assertEquals(2, theList.remove(2));
+            theList.removeBack();
+            assertArrayEquals(new int[] {0, 1, 3}, theList.toArray());
+            assertEquals(2, theList.indexOf(3));
+            assertFalse(theList.contains(4));
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("not-a-list.txt");
+        Files.writeString(file, "this is not a list file");
+
+        assertThrows(IOException.class, () -> new MappedIntList(file));
+    }
+
+    @Test
+    void closedListCannotBeUsed() throws IOException {
+        MappedIntList theList = new MappedIntList(tempDir.resolve("list.bin"));
+        theList.addBack(42);
+        theList.close();
+        theList.close();        // closing twice is fine
+
+        assertThrows(IllegalStateException.class, () -> theList.get(0));
+        assertThrows(IllegalStateException.class, theList::force);
+    }
+}
@@ -0,0 +1,448 @@
+package intlist;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList that keeps its values outside the Java heap, in a chain of
+ * fixed-size direct buffers (segments).
+ *
+ * The heap only holds the small segment table, so the GC does not have to
+ * track or copy the data no matter how large the list grows. Growing never
+ * copies existing values: when the last segment is full a new one is added
+ * to the chain, so there is never a moment where an old and a new buffer of
+ * the full size both exist.
+ *
+ * The list must be closed when it is no longer needed. close() frees the
+ * segments right away where the JVM allows it (otherwise they are freed when
+ * the garbage collector finds them unreachable) and any later use of the list
+ * throws IllegalStateException.
+ *
+ * Adding and removing at the back is O(1) and get(index) is O(1).
+ * Adding or removing anywhere else shifts every later value, as in ArrayIntList.
+ */
+public class OffHeapIntList implements IntList, AutoCloseable {
+    // Internal (private) representation
+    private ByteBuffer[] memory;        // the direct buffers, kept so close() can free them
+    private IntBuffer[] segments;       // int views of memory; null once closed
+    private int segmentCount;           // number of segments allocated
+    private int size;                   // number of "spots used" in the segments
+
+    private final int shift;            // log2 of the values per segment
+    private final int mask;             // values per segment - 1
+
+    private final static int DEFAULT_SEGMENT_CAPACITY = 1 << 20;    // 4 MB per segment
+
+    public OffHeapIntList() {
+        this(DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose segments each hold segmentCapacity values.
+     *
+     * @param segmentCapacity values per segment, a power of two of at least 16
+     * @throws IllegalArgumentException if segmentCapacity is not a power of two,
+     * is less than 16 or is too large for one direct buffer
+     */
+    public OffHeapIntList(int segmentCapacity) {
+        if (segmentCapacity < 16 || segmentCapacity > (1 << 28)
+                || Integer.bitCount(segmentCapacity) != 1) {
+            throw new IllegalArgumentException("Segment capacity must be a power of two in [16, 2^28]: "
+                    + segmentCapacity);
+        }
+        shift = Integer.numberOfTrailingZeros(segmentCapacity);
+        mask = segmentCapacity - 1;
+        memory = new ByteBuffer[4];
+        segments = new IntBuffer[4];
+        segmentCount = 0;
+        size = 0;
+    }
+
+    private void ensureOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    // adds one more segment to the chain
+    private void addSegment() {
+        if (segmentCount == segments.length) {
+            memory = Arrays.copyOf(memory, segmentCount * 2);
+            segments = Arrays.copyOf(segments, segmentCount * 2);
+        }
+        ByteBuffer bytes = ByteBuffer.allocateDirect((mask + 1) * Integer.BYTES)
+                .order(ByteOrder.nativeOrder());
+        memory[segmentCount] = bytes;
+        segments[segmentCount] = bytes.asIntBuffer();
+        segmentCount++;
+    }
+
+    // makes sure there is room for count more values
+    private void ensureRoomFor(int count) {
+        long needed = (long) size + count;
+        if (needed > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required size too large: " + needed);
+        }
+        while (needed > ((long) segmentCount << shift)) {
+            addSegment();
+        }
+    }
+
+    /*
+     * Frees the segments after the one holding the last value, but keeps one
+     * empty segment as a spare so that a list hovering around a segment
+     * boundary does not allocate and free a segment on every call.
+     */
+    private void releaseUnusedSegments() {
+        int used = (size + mask) >>> shift;
+        while (segmentCount > used + 1) {
+            segmentCount--;
+            DirectBuffers.free(memory[segmentCount]);
+            memory[segmentCount] = null;
+            segments[segmentCount] = null;
+        }
+    }
+
+    private int read(int index) {
+        return segments[index >>> shift].get(index & mask);
+    }
+
+    private void write(int index, int value) {
+        segments[index >>> shift].put(index & mask, value);
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * Linear time - O(n), every value is shifted
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * Constant time - O(1), a new segment is chained on when the last one is full
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        ensureOpen();
+        ensureRoomFor(1);
+        write(size, value);
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureRoomFor(1);
+        for (int i = size; i > index; i--) {
+            write(i, read(i - 1));
+        }
+        write(index, value);
+        size++;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        remove(0);
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        size--;
+        releaseUnusedSegments();
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int removedValue = read(index);
+        for (int i = index + 1; i < size; i++) {
+            write(i - 1, read(i));
+        }
+        size--;
+        releaseUnusedSegments();
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return read(index);
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        ensureOpen();
+        for (int s = 0, base = 0; base < size; s++, base += mask + 1) {
+            IntBuffer segment = segments[s];
+            int count = Math.min(size - base, mask + 1);
+            for (int i = 0; i < count; i++) {
+                if (segment.get(i) == value) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     * All segments but one are freed.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+        releaseUnusedSegments();
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * Copies the values in one bulk put per segment.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        ensureOpen();
+        ensureRoomFor(values.length);
+        int copied = 0;
+        while (copied < values.length) {
+            int offset = size & mask;
+            int count = Math.min(values.length - copied, mask + 1 - offset);
+            segments[size >>> shift].put(offset, values, copied, count);
+            copied += count;
+            size += count;
+        }
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     *
+     * Copies the values out in one bulk get per segment.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        ensureOpen();
+        int[] result = new int[size];
+        for (int s = 0, base = 0; base < size; s++, base += mask + 1) {
+            segments[s].get(0, result, base, Math.min(size - base, mask + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Frees the off-heap memory of this list. The list cannot be
+     * used after this call; closing it again does nothing.
+     */
+    @Override
+    public void close() {
+        if (segments == null) {
+            return;
+        }
+        ByteBuffer[] toFree = memory;
+        int count = segmentCount;
+        // drop every reference first, so nothing can reach freed memory
+        segments = null;
+        memory = null;
+        segmentCount = 0;
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            DirectBuffers.free(toFree[i]);
+        }
+    }
+
+    /**
+     * Returns an iterator over the values in this list, from front to back.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        ensureOpen();
+        return new OffHeapIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        ensureOpen();
+        for (int s = 0, base = 0; base < size; s++, base += mask + 1) {
+            IntBuffer segment = segments[s];
+            int count = Math.min(size - base, mask + 1);
+            for (int i = 0; i < count; i++) {
+                action.accept(segment.get(i));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (segments == null) {
+            return "[closed]";
+        }
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        sb.append(read(0));
+        for (int i = 1; i < size; i++) {
+            sb.append(", ").append(read(i));
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class OffHeapIterator implements IntIterator {
+        private int currentPosition;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < size;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         * @throws IllegalStateException if the list was closed
+         */
+        @Override
+        public int nextInt() {
+            ensureOpen();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return read(currentPosition++);
+        }
+    }
+
+}       // end of OffHeapIntList
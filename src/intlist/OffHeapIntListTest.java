@@ -0,0 +1,106 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapIntListTest {
+
+    @Test
+    void addBackAcrossSegments() {
+        try (OffHeapIntList theList = new OffHeapIntList(16)) {
+            for (int i = 0; i < 100; i++) {
+                theList.addBack(i);
+            }
+
+            assertEquals(100, theList.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, theList.get(i));
+            }
+        }
+    }
+
+    @Test
+    void addAndRemoveAtIndex() {
+        try (OffHeapIntList theList = new OffHeapIntList(16)) {
+            theList.addAll(new int[] {1, 2, 4});
+            theList.add(2, 3);
+            theList.addFront(0);
+            assertEquals("[0, 1, 2, 3, 4]", theList.toString());
+
+            assertEquals(2, theList.remove(2));
+            theList.removeFront();
+            theList.removeBack();
+            assertEquals("[1, 3]", theList.toString());
+        }
+    }
+
+    @Test
+    void removeBackReleasesSegments() {
+        try (OffHeapIntList theList = new OffHeapIntList(16)) {
+            int[] values = new int[1000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i;
+            }
+            theList.addAll(values);
+            while (theList.size() > 5) {
+                theList.removeBack();
+            }
+            theList.addAll(values);
+
+            assertEquals(1005, theList.size());
+            assertEquals(4, theList.get(4));
+            assertEquals(999, theList.get(1004));
+            assertEquals(10, theList.indexOf(5));
+            assertTrue(theList.contains(999));
+        }
+    }
+
+    @Test
+    void toArrayAndIterator() {
+        try (OffHeapIntList theList = new OffHeapIntList(16)) {
+            for (int i = 0; i < 40; i++) {
+                theList.addBack(i * 2);
+            }
+
+            int[] array = theList.toArray();
+            IntIterator itr = theList.iterator();
+            for (int i = 0; i < 40; i++) {
+                assertEquals(i * 2, array[i]);
+                assertEquals(i * 2, itr.nextInt());
+            }
+            assertFalse(itr.hasNext());
+        }
+    }
+
+    @Test
+    void emptyListThrows() {
+        try (OffHeapIntList theList = new OffHeapIntList()) {
+            assertThrows(NoSuchElementException.class, theList::removeFront);
+            assertThrows(NoSuchElementException.class, theList::removeBack);
+            assertThrows(IndexOutOfBoundsException.class, () -> theList.get(0));
+        }
+    }
+
+    @Test
+    void closedListCannotBeUsed() {
+        OffHeapIntList theList = new OffHeapIntList(16);
+        theList.addBack(42);
+        IntIterator itr = theList.iterator();
+        theList.close();
+        theList.close();        // closing twice is fine
+
+        assertThrows(IllegalStateException.class, () -> theList.addBack(1));
+        assertThrows(IllegalStateException.class, () -> theList.get(0));
+        assertThrows(IllegalStateException.class, itr::nextInt);
+        assertEquals(0, theList.size());
+    }
+
+    @Test
+    void badSegmentCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapIntList(100));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapIntList(8));
+    }
+}
@@ -0,0 +1,718 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable IntList whose "changes" return new versions that share most
+ * of their structure with the old one.
+ *
+ * The values are kept in a bit-partitioned trie: leaves are int[32] arrays
+ * and every inner node has up to 32 children, so a list of n values is
+ * log32(n) levels deep (at most 7). withValue and withRemovedBack copy only
+ * the path from the root to one leaf, and withAddedBack usually only copies
+ * the tail, the last (partly filled) leaf that is kept outside the trie.
+ * Every version stays valid and unchanged, so handing a list to another
+ * thread is O(1): just pass the reference.
+ *
+ * The IntList mutators (addBack, remove, clear, ...) throw
+ * UnsupportedOperationException; use the with... methods instead.
+ * To build a large list, or apply many changes at once, use a Builder: it
+ * changes the nodes it created in place and only copies shared ones.
+ */
+public final class PersistentIntList implements IntList {
+    // Internal (private) representation
+    private final int size;             // number of values in the list
+    private final int shift;            // bits to shift the index by at the root, a multiple of BITS
+    private final Node root;            // the trie holding every value before the tail
+    private final int[] tail;           // the last 1 to 32 values (empty only in an empty list)
+
+    private final static int BITS = 5;
+    private final static int WIDTH = 1 << BITS;         // children per node, values per leaf
+    private final static int MASK = WIDTH - 1;
+
+    private final static Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private final static PersistentIntList EMPTY = new PersistentIntList(0, BITS, EMPTY_NODE, new int[0]);
+
+    private final static String IMMUTABLE = "PersistentIntList is immutable, use the with... methods";
+
+    /**
+     * Creates an empty list.
+     */
+    public PersistentIntList() {
+        this(0, BITS, EMPTY_NODE, new int[0]);
+    }
+
+    private PersistentIntList(int size, int shift, Node root, int[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns a list holding the specified values, in order.
+     *
+     * @param values the values of the new list
+     * @return a list of the values
+     */
+    public static PersistentIntList of(int... values) {
+        return new Builder().addAll(values).build();
+    }
+
+    // nested or inner class (helper class)
+    private static final class Node {
+        final Object edit;              // the Builder allowed to change this node in place, null if none
+        final Object[] array;           // child Nodes, or int[] leaves on the lowest level
+        int ownedLeaves;                // bit i set: leaf i was made by the edit Builder
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    // index of the first value in the tail
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    // the leaf (or tail) holding the value at index
+    private static int[] leafFor(Node root, int shift, int[] tail, int size, int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > BITS; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return (int[]) node.array[(index >>> BITS) & MASK];
+    }
+
+    // returns node itself if edit may change it in place, otherwise a copy that edit owns
+    private static Node editable(Object edit, Node node) {
+        if (edit != null && node.edit == edit) {
+            return node;
+        }
+        return new Node(edit, node.array.clone());
+    }
+
+    // a chain of new nodes from level down to the leaf
+    private static Node newPath(Object edit, int level, int[] leaf) {
+        Node node = new Node(edit, new Object[WIDTH]);
+        if (level == BITS) {
+            node.array[0] = leaf;
+            node.ownedLeaves = 1;
+        } else {
+            node.array[0] = newPath(edit, level - BITS, leaf);
+        }
+        return node;
+    }
+
+    // puts a full tail into the trie below node, where count is the size including that tail
+    private static Node pushTail(Object edit, int count, int level, Node node, int[] leaf) {
+        Node result = editable(edit, node);
+        int child = ((count - 1) >>> level) & MASK;
+        if (level == BITS) {
+            result.array[child] = leaf;
+            result.ownedLeaves |= 1 << child;
+        } else {
+            Node next = (Node) result.array[child];
+            result.array[child] = (next != null)
+                    ? pushTail(edit, count, level - BITS, next, leaf)
+                    : newPath(edit, level - BITS, leaf);
+        }
+        return result;
+    }
+
+    // sets the value at index below node, copying what edit does not own
+    private static Node assoc(Object edit, int level, Node node, int index, int value) {
+        Node result = editable(edit, node);
+        int child = (index >>> level) & MASK;
+        if (level == BITS) {
+            int[] leaf = (int[]) result.array[child];
+            if ((result.ownedLeaves & (1 << child)) == 0) {
+                leaf = leaf.clone();
+                result.array[child] = leaf;
+                result.ownedLeaves |= 1 << child;
+            }
+            leaf[index & MASK] = value;
+        } else {
+            result.array[child] = assoc(edit, level - BITS, (Node) result.array[child], index, value);
+        }
+        return result;
+    }
+
+    // removes the last leaf below node, where count is the size before the removal; null if node empties
+    private static Node popTail(int count, int level, Node node) {
+        int child = ((count - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node next = popTail(count, level - BITS, (Node) node.array[child]);
+            if (next == null && child == 0) {
+                return null;
+            }
+            Node result = new Node(null, node.array.clone());
+            result.array[child] = next;
+            return result;
+        } else if (child == 0) {
+            return null;
+        } else {
+            Node result = new Node(null, node.array.clone());
+            result.array[child] = null;
+            return result;
+        }
+    }
+
+    /**
+     * Returns a new list with the specified value appended at the back.
+     * This list is not changed.
+     *
+     * Constant time - O(1) while the tail has room, O(log32 n) when a full
+     * tail moves into the trie
+     *
+     * @param value value to be appended
+     * @return the new version of the list
+     */
+    public PersistentIntList withAddedBack(int value) {
+        if (size - tailOffset(size) < WIDTH) {
+            int[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentIntList(size + 1, shift, root, newTail);
+        }
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // the trie is full: grow a new root above it
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tail);
+        }
+        return new PersistentIntList(size + 1, newShift, newRoot, new int[] {value});
+    }
+
+    /**
+     * Returns a new list with all the specified values appended at the back,
+     * in order. This list is not changed.
+     *
+     * @param values values to be appended
+     * @return the new version of the list
+     */
+    public PersistentIntList withAddedAll(int... values) {
+        return toBuilder().addAll(values).build();
+    }
+
+    /**
+     * Returns a new list in which the value at the specified position is
+     * replaced by value. This list is not changed.
+     *
+     * O(log32 n), one path from the root to a leaf is copied
+     *
+     * @param index index of the value to replace
+     * @param value the new value
+     * @return the new version of the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentIntList withValue(int index, int value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index >= tailOffset(size)) {
+            int[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentIntList(size, shift, root, newTail);
+        }
+        return new PersistentIntList(size, shift, assoc(null, shift, root, index, value), tail);
+    }
+
+    /**
+     * Returns a new list without the value at the back.
+     * This list is not changed.
+     *
+     * O(log32 n)
+     *
+     * @return the new version of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public PersistentIntList withRemovedBack() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentIntList(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        // the tail empties: the last leaf of the trie becomes the new tail
+        int[] newTail = leafFor(root, shift, tail, size, size - 2);
+        Node newRoot = popTail(size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentIntList(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a new list without the value at the specified position.
+     * This list is not changed.
+     *
+     * Removing the last value is O(log32 n). Any other position shifts every
+     * later value down by one, which changes every leaf after it, so the
+     * new version is rebuilt from the values: O(n).
+     *
+     * @param index the index of the value to be removed
+     * @return the new version of the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentIntList withRemoved(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size - 1) {
+            return withRemovedBack();
+        }
+        Builder builder = new Builder();
+        for (int base = 0; base < size; base += WIDTH) {
+            int[] leaf = leafFor(root, shift, tail, size, base);
+            int count = Math.min(WIDTH, size - base);
+            for (int i = 0; i < count; i++) {
+                if (base + i != index) {
+                    builder.addBack(leaf[i]);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder that starts with the values of this list.
+     * This list is not changed by anything done to the builder.
+     *
+     * @return a new Builder
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Not supported, the list is immutable; use withAddedBack on a Builder
+     * or build the values in order.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addFront(int value) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable; use withAddedBack.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addBack(int value) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, int value) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable; use withRemoved(0).
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeFront() {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable; use withRemovedBack.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeBack() {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable; use withRemoved.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int remove(int index) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable; use withAddedAll.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAll(int[] values) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable; use withAddedAll.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAll(IntList other) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAll(int index, int[] values) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported, the list is immutable; use new PersistentIntList().
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * O(log32 n), at most 7 levels
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return leafFor(root, shift, tail, size, index)[index & MASK];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * Linear time - O(n), one scan per leaf
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        for (int base = 0; base < size; base += WIDTH) {
+            int[] leaf = leafFor(root, shift, tail, size, base);
+            int found = ScanKernels.indexOf(leaf, 0, Math.min(WIDTH, size - base), value);
+            if (found != -1) {
+                return base + found;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back, copied one leaf at a time.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        for (int base = 0; base < size; base += WIDTH) {
+            int[] leaf = leafFor(root, shift, tail, size, base);
+            System.arraycopy(leaf, 0, result, base, Math.min(WIDTH, size - base));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, from front to back.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new PersistentIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        for (int base = 0; base < size; base += WIDTH) {
+            int[] leaf = leafFor(root, shift, tail, size, base);
+            int count = Math.min(WIDTH, size - base);
+            for (int i = 0; i < count; i++) {
+                action.accept(leaf[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        IntIterator itr = iterator();
+        sb.append(itr.nextInt());
+        while (itr.hasNext()) {
+            sb.append(", ").append(itr.nextInt());
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class PersistentIterator implements IntIterator {
+        private int currentPosition;
+        private int[] leaf;             // the leaf holding currentPosition
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < size;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if ((currentPosition & MASK) == 0) {
+                leaf = leafFor(root, shift, tail, size, currentPosition);
+            }
+            return leaf[currentPosition++ & MASK];
+        }
+    }
+
+    /**
+     * Builds a PersistentIntList with in-place changes (a "transient").
+     *
+     * The builder changes the nodes it created itself in place and copies a
+     * node only the first time it changes one shared with a list, so adding
+     * n values costs O(n) with no per-value copying. build() returns the
+     * list in O(1); the builder stays usable afterwards, and later changes do
+     * not affect the lists it already built.
+     *
+     * A builder must not be used by several threads at once.
+     */
+    public static final class Builder {
+        private Object edit = new Object();     // marks the nodes this builder may change in place
+        private int size;
+        private int shift;
+        private Node root;
+        private int[] tail;                     // always WIDTH long, owned by the builder
+
+        /**
+         * Creates a builder for an empty list.
+         */
+        public Builder() {
+            this(EMPTY);
+        }
+
+        private Builder(PersistentIntList list) {
+            size = list.size;
+            shift = list.shift;
+            root = list.root;
+            tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Appends the specified value at the back.
+         *
+         * @param value value to be appended
+         * @return this builder
+         */
+        public Builder addBack(int value) {
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = value;
+                size++;
+                return this;
+            }
+            int[] fullTail = tail;
+            tail = new int[WIDTH];
+            tail[0] = value;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, fullTail);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, fullTail);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends all the specified values, in order, at the back.
+         *
+         * @param values values to be appended
+         * @return this builder
+         */
+        public Builder addAll(int... values) {
+            for (int value : values) {
+                addBack(value);
+            }
+            return this;
+        }
+
+        /**
+         * Replaces the value at the specified position.
+         *
+         * @param index index of the value to replace
+         * @param value the new value
+         * @return this builder
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Builder set(int index, int value) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = value;
+            } else {
+                root = assoc(edit, shift, root, index, value);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the value at the specified position.
+         *
+         * @param index index of the value to return
+         * @return the value at the specified position
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public int get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return leafFor(root, shift, tail, size, index)[index & MASK];
+        }
+
+        /**
+         * Returns the number of values added so far.
+         *
+         * @return the number of values in the builder
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns a list of the values in this builder.
+         *
+         * @return the new PersistentIntList
+         */
+        public PersistentIntList build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            PersistentIntList list = new PersistentIntList(size, shift, root,
+                    Arrays.copyOf(tail, size - tailOffset(size)));
+            // the built list now shares every node, so none may change in place any more
+            edit = new Object();
+            return list;
+        }
+    }
+
+}       // end of PersistentIntList
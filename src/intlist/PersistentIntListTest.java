@@ -0,0 +1,144 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentIntListTest {
+
+    private static int[] toInts(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    void oldVersionsDoNotChange() {
+        PersistentIntList empty = new PersistentIntList();
+        PersistentIntList one = empty.withAddedBack(1);
+        PersistentIntList two = one.withAddedBack(2);
+        PersistentIntList changed = two.withValue(0, 10);
+        PersistentIntList popped = changed.withRemovedBack();
+
+        assertEquals("[]", empty.toString());
+        assertEquals("[1]", one.toString());
+        assertEquals("[1, 2]", two.toString());
+        assertEquals("[10, 2]", changed.toString());
+        assertEquals("[10]", popped.toString());
+        assertThrows(NoSuchElementException.class, empty::withRemovedBack);
+        assertThrows(IndexOutOfBoundsException.class, () -> two.withValue(2, 0));
+    }
+
+    @Test
+    void mutatorsAreNotSupported() {
+        PersistentIntList theList = PersistentIntList.of(1, 2, 3);
+
+        assertThrows(UnsupportedOperationException.class, () -> theList.addBack(4));
+        assertThrows(UnsupportedOperationException.class, () -> theList.remove(0));
+        assertThrows(UnsupportedOperationException.class, theList::clear);
+        assertEquals(3, theList.size());
+    }
+
+    @Test
+    void growsAndShrinksThroughSeveralLevels() {
+        PersistentIntList theList = new PersistentIntList();
+        int count = 40_000;                     // three levels of trie
+        for (int i = 0; i < count; i++) {
+            theList = theList.withAddedBack(i);
+        }
+        assertEquals(count, theList.size());
+        for (int i = 0; i < count; i += 7) {
+            assertEquals(i, theList.get(i));
+        }
+        assertEquals(33_333, theList.indexOf(33_333));
+
+        PersistentIntList full = theList;
+        for (int i = count - 1; i >= 0; i--) {
+            assertEquals(i, theList.get(i));
+            theList = theList.withRemovedBack();
+        }
+        assertTrue(theList.isEmpty());
+        assertEquals(count - 1, full.get(count - 1));       // the full version is still intact
+    }
+
+    @Test
+    void randomVersionsMatchArrayList() {
+        Random random = new Random(7);
+        List<List<Integer>> expected = new ArrayList<>();
+        List<PersistentIntList> versions = new ArrayList<>();
+        expected.add(new ArrayList<>());
+        versions.add(new PersistentIntList());
+
+        for (int step = 0; step < 3000; step++) {
+            int from = random.nextInt(versions.size());
+            List<Integer> values = new ArrayList<>(expected.get(from));
+            PersistentIntList version = versions.get(from);
+            int op = random.nextInt(10);
+            if (op < 6 || values.isEmpty()) {
+                int value = random.nextInt();
+                values.add(value);
+                version = version.withAddedBack(value);
+            } else if (op < 8) {
+                int index = random.nextInt(values.size());
+                int value = random.nextInt();
+                values.set(index, value);
+                version = version.withValue(index, value);
+            } else if (op < 9) {
+                values.remove(values.size() - 1);
+                version = version.withRemovedBack();
+            } else {
+                int index = random.nextInt(values.size());
+                values.remove(index);
+                version = version.withRemoved(index);
+            }
+            expected.add(values);
+            versions.add(version);
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertArrayEquals(toInts(expected.get(i)), versions.get(i).toArray());
+        }
+    }
+
+    @Test
+    void builderDoesNotChangeBuiltLists() {
+        PersistentIntList.Builder builder = new PersistentIntList.Builder();
+        for (int i = 0; i < 2000; i++) {
+            builder.addBack(i);
+        }
+        PersistentIntList first = builder.build();
+
+        builder.set(5, -5).set(1999, -1999).addBack(2000);
+        PersistentIntList second = builder.build();
+        PersistentIntList third = second.toBuilder().set(5, 55).build();
+
+        assertEquals(5, first.get(5));
+        assertEquals(1999, first.get(1999));
+        assertEquals(2000, first.size());
+        assertEquals(-5, second.get(5));
+        assertEquals(-1999, second.get(1999));
+        assertEquals(2000, second.get(2000));
+        assertEquals(55, third.get(5));
+        assertEquals(-5, second.get(5));
+
+        PersistentIntList longer = first.withAddedAll(7, 8, 9);
+        assertEquals(2003, longer.size());
+        assertEquals(9, longer.get(2002));
+        assertEquals(2000, first.size());
+    }
+
+    @Test
+    void streamsAndIterates() {
+        PersistentIntList theList = PersistentIntList.of(1, 2, 3, 4);
+        int sum = 0;
+        for (int value : theList) {
+            sum += value;
+        }
+        assertEquals(10, sum);
+        assertEquals(10, theList.stream().sum());
+        assertEquals("[1, 2, 3, 4]", theList.toString());
+    }
+}
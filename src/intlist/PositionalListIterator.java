@@ -0,0 +1,98 @@
+package intlist;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The IntListIterator behind IntList.listIterator() for lists that do not
+ * have a cursor of their own. Each step is a get(index), add(index, value)
+ * or remove(index) on the list, so it is as fast as positional access
+ * on that list; set(value) is a remove followed by an add, and if the
+ * add throws (a list may refuse the value at that position) the old
+ * value is put back before the exception is passed on. That is not
+ * atomic, so lists that can overwrite a value in place, or must check or
+ * lock around it, override set through lastReturnedIndex().
+ */
+class PositionalListIterator implements IntListIterator {
+    private final IntList list;
+    private int cursor;                 // index of the value nextInt() returns
+    private int lastReturned = -1;      // index of the last value returned, -1 if none
+
+    PositionalListIterator(IntList list, int index) {
+        if (index < 0 || index > list.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + list.size());
+        }
+        this.list = list;
+        this.cursor = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < list.size();
+    }
+
+    @Override
+    public int nextInt() {
+        if (cursor >= list.size()) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = cursor++;
+        return list.get(lastReturned);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return cursor > 0;
+    }
+
+    @Override
+    public int previousInt() {
+        if (cursor == 0) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = --cursor;
+        return list.get(lastReturned);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public void remove() {
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        list.remove(lastReturned);
+        if (lastReturned < cursor) {
+            cursor--;
+        }
+        lastReturned = -1;
+    }
+
+    @Override
+    public void set(int value) {
+        int index = lastReturnedIndex();
+        int oldValue = list.remove(index);
+        try {
+            list.add(index, value);
+        } catch (RuntimeException e) {
+            list.add(index, oldValue);
+            throw e;
+        }
+    }
+
+    // the index set(value) replaces; throws if there is no value to replace
+    int lastReturnedIndex() {
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        return lastReturned;
+    }
+
+    @Override
+    public void add(int value) {
+        list.add(cursor++, value);
+        lastReturned = -1;
+    }
+}       // end of PositionalListIterator
@@ -0,0 +1,1041 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A set of ints stored as a Roaring-style compressed bitmap, a companion to
+ * the IntList classes for lists that are really sets of unique ids.
+ *
+ * The values are split by their high 16 bits into chunks of up to 65536
+ * values, and each chunk is stored in the container that suits it:
+ *   array  - a sorted char[] of the low 16 bits, for up to 4096 values
+ *   bitmap - 65536 bits (8 KB), for more than 4096 values
+ *   run    - sorted runs of consecutive values, after runOptimize(),
+ *            for chunks that are mostly long runs
+ * contains looks up the chunk with one binary search over at most 65536
+ * keys and then does one bit test or binary search inside the container.
+ *
+ * Iteration is in ascending (signed) order. indexOf(value) is a rank query
+ * and select(index) its inverse, both using a running count of the values
+ * before each container. and, or and andNot combine two sets container by
+ * container, word by word for bitmaps.
+ *
+ * A set can hold every int, so counts and positions are longs.
+ */
+public class RoaringIntSet implements Iterable<Integer> {
+    // Internal (private) representation
+    private char[] keys;                // high 16 bits of each container's values, ascending
+    private Container[] containers;
+    private int containerCount;
+
+    private long[] valuesBefore;        // values in the containers before each container
+    private boolean valuesBeforeStale;  // true when a change has not been counted into valuesBefore
+
+    private final static int ARRAY_MAX = 4096;          // larger array containers become bitmaps
+    private final static int BITMAP_WORDS = 1 << 10;    // 65536 bits
+
+    public RoaringIntSet() {
+        keys = new char[4];
+        containers = new Container[4];
+        valuesBefore = new long[4];
+        containerCount = 0;
+    }
+
+    /**
+     * Returns a set of the specified values.
+     *
+     * @param values the values of the new set, in any order, duplicates allowed
+     * @return a set of the values
+     */
+    public static RoaringIntSet of(int... values) {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Returns a set of the values in the specified list.
+     *
+     * @param list the values of the new set
+     * @return a set of the distinct values in the list
+     */
+    public static RoaringIntSet of(IntList list) {
+        RoaringIntSet set = new RoaringIntSet();
+        list.forEachInt(set::add);
+        return set;
+    }
+
+    // flipping the sign bit makes unsigned order of the keys the signed order of the values
+    private static char high(int value) {
+        return (char) ((value ^ Integer.MIN_VALUE) >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    private static int value(char high, int low) {
+        return ((high << 16) | low) ^ Integer.MIN_VALUE;
+    }
+
+    // index of key in keys, or -(insertion point) - 1
+    private int find(char key) {
+        return Arrays.binarySearch(keys, 0, containerCount, key);
+    }
+
+    private void insertContainer(int position, char key, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, containerCount * 2);
+            containers = Arrays.copyOf(containers, containerCount * 2);
+            valuesBefore = Arrays.copyOf(valuesBefore, containerCount * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, containerCount - position);
+        System.arraycopy(containers, position, containers, position + 1, containerCount - position);
+        keys[position] = key;
+        containers[position] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int position) {
+        System.arraycopy(keys, position + 1, keys, position, containerCount - position - 1);
+        System.arraycopy(containers, position + 1, containers, position, containerCount - position - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    // appends a container whose key is greater than every key so far
+    private void appendContainer(char key, Container container) {
+        insertContainer(containerCount, key, container);
+    }
+
+    private void countValuesBefore() {
+        if (!valuesBeforeStale) {
+            return;
+        }
+        long count = 0;
+        for (int i = 0; i < containerCount; i++) {
+            valuesBefore[i] = count;
+            count += containers[i].cardinality();
+        }
+        valuesBeforeStale = false;
+    }
+
+    /**
+     * Adds the specified value to this set.
+     *
+     * @param value value to be added
+     * @return true if the value was added, false if it was already present
+     */
+    public boolean add(int value) {
+        char key = high(value);
+        int position = find(key);
+        if (position < 0) {
+            insertContainer(-position - 1, key, new ArrayContainer().add(low(value)));
+            valuesBeforeStale = true;
+            return true;
+        }
+        Container container = containers[position];
+        int before = container.cardinality();
+        containers[position] = container.add(low(value));
+        if (containers[position].cardinality() == before) {
+            return false;
+        }
+        valuesBeforeStale = true;
+        return true;
+    }
+
+    /**
+     * Removes the specified value from this set.
+     *
+     * @param value value to be removed
+     * @return true if the value was removed, false if it was not present
+     */
+    public boolean remove(int value) {
+        int position = find(high(value));
+        if (position < 0) {
+            return false;
+        }
+        Container container = containers[position];
+        int before = container.cardinality();
+        container = container.remove(low(value));
+        if (container.cardinality() == before) {
+            return false;
+        }
+        if (container.cardinality() == 0) {
+            removeContainer(position);
+        } else {
+            containers[position] = container;
+        }
+        valuesBeforeStale = true;
+        return true;
+    }
+
+    /**
+     * Returns true if this set contains the specified value.
+     *
+     * O(log k) over the k containers, then O(1) in a bitmap or
+     * O(log n) in an array or run container
+     *
+     * @param value value whose presence in this set is to be searched for
+     * @return true if this set contains the specified value
+     */
+    public boolean contains(int value) {
+        int position = find(high(value));
+        return position >= 0 && containers[position].contains(low(value));
+    }
+
+    /**
+     * Returns the number of values in this set.
+     *
+     * @return the number of values in this set
+     */
+    public long cardinality() {
+        if (containerCount == 0) {
+            return 0;
+        }
+        countValuesBefore();
+        return valuesBefore[containerCount - 1] + containers[containerCount - 1].cardinality();
+    }
+
+    /**
+     * Returns true if this set contains no values.
+     *
+     * @return true if this set contains no values
+     */
+    public boolean isEmpty() {
+        return containerCount == 0;
+    }
+
+    /**
+     * Removes all the values from this set.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, containerCount, null);
+        containerCount = 0;
+        valuesBeforeStale = true;
+    }
+
+    /**
+     * Returns the number of values in this set that are less than the
+     * specified value.
+     *
+     * @param value value to compare against
+     * @return the number of smaller values
+     */
+    public long rank(int value) {
+        countValuesBefore();
+        int position = find(high(value));
+        if (position < 0) {
+            int next = -position - 1;
+            return next == containerCount ? cardinality() : valuesBefore[next];
+        }
+        return valuesBefore[position] + containers[position].rank(low(value));
+    }
+
+    /**
+     * Returns the position of the specified value in ascending order,
+     * or -1 if this set does not contain it. This is rank(value) for
+     * values in the set.
+     *
+     * @param value value to search for
+     * @return the position of the value, or -1
+     */
+    public long indexOf(int value) {
+        return contains(value) ? rank(value) : -1;
+    }
+
+    /**
+     * Returns the value at the specified position in ascending order,
+     * the inverse of indexOf.
+     *
+     * @param index position of the value to return
+     * @return the value at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int select(long index) {
+        long cardinality = cardinality();
+        if (index < 0 || index >= cardinality) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + cardinality);
+        }
+        // last container with valuesBefore <= index
+        int low = 0;
+        int high = containerCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (valuesBefore[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return value(keys[low], containers[low].select((int) (index - valuesBefore[low])));
+    }
+
+    /**
+     * Returns a new set of the values that are in both this set and other.
+     *
+     * @param other the set to intersect with
+     * @return the intersection
+     */
+    public RoaringIntSet and(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = Container.and(containers[i], other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        result.valuesBeforeStale = true;
+        return result;
+    }
+
+    /**
+     * Returns a new set of the values that are in this set, other, or both.
+     *
+     * @param other the set to unite with
+     * @return the union
+     */
+    public RoaringIntSet or(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i == containerCount || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], Container.or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        result.valuesBeforeStale = true;
+        return result;
+    }
+
+    /**
+     * Returns a new set of the values that are in this set but not in other.
+     *
+     * @param other the set whose values are left out
+     * @return the difference
+     */
+    public RoaringIntSet andNot(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container container = (j < other.containerCount && other.keys[j] == keys[i])
+                    ? Container.andNot(containers[i], other.containers[j])
+                    : containers[i].copy();
+            if (container.cardinality() > 0) {
+                result.appendContainer(keys[i], container);
+            }
+        }
+        result.valuesBeforeStale = true;
+        return result;
+    }
+
+    /**
+     * Converts each container to runs of consecutive values where that
+     * takes less memory. Worth calling once a set that holds long ranges
+     * has been filled. Adding to or removing from a run container turns it
+     * back into an array or bitmap container.
+     */
+    public void runOptimize() {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i] = containers[i].runOptimize();
+        }
+    }
+
+    /**
+     * Returns an iterator over the values in this set, in ascending order.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new RoaringIterator();
+    }
+
+    /**
+     * Returns a sequential IntStream over the values in this set, in
+     * ascending order.
+     *
+     * @return a stream of the values in this set
+     */
+    public IntStream stream() {
+        Spliterator.OfInt spliterator = Spliterators.spliterator(iterator(), cardinality(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT);
+        return StreamSupport.intStream(spliterator, false);
+    }
+
+    /**
+     * Performs the given action for each value in this set, in ascending
+     * order, without boxing the values. Each container is walked in its own
+     * tight loop.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i], action);
+        }
+    }
+
+    /**
+     * Returns a new array holding the values in this set, in ascending order.
+     *
+     * @return an array holding the values of this set
+     * @throws IllegalStateException if the set has too many values for an array
+     */
+    public int[] toArray() {
+        long cardinality = cardinality();
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many values for an array: " + cardinality);
+        }
+        int[] result = new int[(int) cardinality];
+        int[] next = new int[1];
+        forEachInt(value -> result[next[0]++] = value);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        if (containerCount == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        IntIterator itr = iterator();
+        sb.append(itr.nextInt());
+        while (itr.hasNext()) {
+            sb.append(", ").append(itr.nextInt());
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class RoaringIterator implements IntIterator {
+        private int containerIndex;
+        private int nextLow = -1;       // the next low 16 bits in the current container, -1 to look it up
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            while (containerIndex < containerCount) {
+                if (nextLow == -1) {
+                    nextLow = containers[containerIndex].nextAtLeast(0);
+                }
+                if (nextLow != -1) {
+                    return true;
+                }
+                containerIndex++;
+            }
+            return false;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int result = value(keys[containerIndex], nextLow);
+            nextLow = nextLow == 0xFFFF ? -1 : containers[containerIndex].nextAtLeast(nextLow + 1);
+            if (nextLow == -1) {
+                containerIndex++;
+            }
+            return result;
+        }
+    }
+
+    /*
+     * The low 16 bits of the values that share one high 16 bits.
+     * Changing a container may return a different kind of container, which
+     * the caller stores in its place.
+     */
+    private static abstract class Container {
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        // number of values less than low
+        abstract int rank(char low);
+
+        // the index-th smallest value
+        abstract int select(int index);
+
+        // the smallest value >= low, or -1 if there is none
+        abstract int nextAtLeast(int low);
+
+        abstract void forEach(char high, IntConsumer action);
+
+        // a new bitmap container holding the same values
+        abstract BitmapContainer toBitmap();
+
+        abstract Container copy();
+
+        abstract int sizeInBytes();
+
+        // this container as runs, if that is smaller
+        Container runOptimize() {
+            RunContainer runs = RunContainer.of(this);
+            return runs.sizeInBytes() < sizeInBytes() ? runs : this;
+        }
+
+        static Container and(Container a, Container b) {
+            if (a instanceof ArrayContainer) {
+                return ((ArrayContainer) a).filter(b, true);
+            }
+            if (b instanceof ArrayContainer) {
+                return ((ArrayContainer) b).filter(a, true);
+            }
+            BitmapContainer result = a.toBitmap();
+            result.andWith(b);
+            return result.shrink();
+        }
+
+        static Container or(Container a, Container b) {
+            if (a instanceof ArrayContainer && b instanceof ArrayContainer
+                    && a.cardinality() + b.cardinality() <= ARRAY_MAX) {
+                return ((ArrayContainer) a).union((ArrayContainer) b);
+            }
+            BitmapContainer result = a.toBitmap();
+            result.orWith(b);
+            return result.shrink();             // runs or arrays may still fit an array
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a instanceof ArrayContainer) {
+                return ((ArrayContainer) a).filter(b, false);
+            }
+            BitmapContainer result = a.toBitmap();
+            result.andNotWith(b);
+            return result.shrink();
+        }
+    }
+
+    // up to ARRAY_MAX values as a sorted array
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            values = new char[4];
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        private int search(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return search(low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            int position = search(low);
+            if (position >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                BitmapContainer bitmap = toBitmap();
+                bitmap.add(low);
+                return bitmap;
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int position = search(low);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int rank(char low) {
+            int position = search(low);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        @Override
+        int select(int index) {
+            return values[index];
+        }
+
+        @Override
+        int nextAtLeast(int low) {
+            int position = rank((char) low);
+            return position < cardinality ? values[position] : -1;
+        }
+
+        @Override
+        void forEach(char high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(value(high, values[i]));
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 2 * cardinality;
+        }
+
+        // the values for which other.contains(value) == keep
+        ArrayContainer filter(Container other, boolean keep) {
+            char[] result = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        // merges two sorted arrays whose total size is at most ARRAY_MAX
+        ArrayContainer union(ArrayContainer other) {
+            char[] result = new char[Math.max(cardinality + other.cardinality, 1)];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < cardinality && j < other.cardinality) {
+                char a = values[i];
+                char b = other.values[j];
+                if (a < b) {
+                    result[count++] = a;
+                    i++;
+                } else if (a > b) {
+                    result[count++] = b;
+                    j++;
+                } else {
+                    result[count++] = a;
+                    i++;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[count++] = values[i++];
+            }
+            while (j < other.cardinality) {
+                result[count++] = other.values[j++];
+            }
+            return new ArrayContainer(result, count);
+        }
+    }
+
+    // 65536 bits, one per possible low value
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            words = new long[BITMAP_WORDS];
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            long before = words[low >>> 6];
+            long after = before | (1L << low);
+            words[low >>> 6] = after;
+            if (after != before) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            long before = words[low >>> 6];
+            long after = before & ~(1L << low);
+            words[low >>> 6] = after;
+            if (after != before) {
+                cardinality--;
+            }
+            return shrink();
+        }
+
+        @Override
+        int rank(char low) {
+            int count = 0;
+            int word = low >>> 6;
+            for (int i = 0; i < word; i++) {
+                count += Long.bitCount(words[i]);
+            }
+            return count + Long.bitCount(words[word] & ((1L << low) - 1));
+        }
+
+        @Override
+        int select(int index) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                int bits = Long.bitCount(words[i]);
+                if (index < bits) {
+                    long word = words[i];
+                    for (int k = 0; k < index; k++) {
+                        word &= word - 1;       // clears the lowest set bit
+                    }
+                    return (i << 6) + Long.numberOfTrailingZeros(word);
+                }
+                index -= bits;
+            }
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        @Override
+        int nextAtLeast(int low) {
+            int word = low >>> 6;
+            long bits = words[word] & (-1L << low);
+            while (bits == 0) {
+                if (++word == BITMAP_WORDS) {
+                    return -1;
+                }
+                bits = words[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        @Override
+        void forEach(char high, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(value(high, (i << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        Container copy() {
+            return toBitmap();
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 8 * BITMAP_WORDS;
+        }
+
+        // this bitmap, or an array container once few enough values are left
+        Container shrink() {
+            if (cardinality > ARRAY_MAX) {
+                return this;
+            }
+            char[] values = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+
+        private void recount() {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            cardinality = count;
+        }
+
+        void andWith(Container other) {
+            long[] otherWords = (other instanceof BitmapContainer)
+                    ? ((BitmapContainer) other).words : other.toBitmap().words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            recount();
+        }
+
+        void orWith(Container other) {
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    add(array.values[i]);
+                }
+                return;
+            }
+            long[] otherWords = (other instanceof BitmapContainer)
+                    ? ((BitmapContainer) other).words : other.toBitmap().words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= otherWords[i];
+            }
+            recount();
+        }
+
+        void andNotWith(Container other) {
+            if (other instanceof ArrayContainer) {
+                // clears the bits in place; remove() would try to shrink after every value
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    char low = array.values[i];
+                    long before = words[low >>> 6];
+                    long after = before & ~(1L << low);
+                    words[low >>> 6] = after;
+                    if (after != before) {
+                        cardinality--;
+                    }
+                }
+                return;
+            }
+            long[] otherWords = (other instanceof BitmapContainer)
+                    ? ((BitmapContainer) other).words : other.toBitmap().words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= ~otherWords[i];
+            }
+            recount();
+        }
+    }
+
+    // sorted, non-touching runs [starts[i], ends[i]] of consecutive values
+    private static final class RunContainer extends Container {
+        private final char[] starts;
+        private final char[] ends;
+        private final int runCount;
+        private final int cardinality;
+
+        private RunContainer(char[] starts, char[] ends, int runCount) {
+            this.starts = starts;
+            this.ends = ends;
+            this.runCount = runCount;
+            int count = 0;
+            for (int i = 0; i < runCount; i++) {
+                count += ends[i] - starts[i] + 1;
+            }
+            this.cardinality = count;
+        }
+
+        static RunContainer of(Container container) {
+            char[] starts = new char[16];
+            char[] ends = new char[16];
+            int runCount = 0;
+            int low = container.nextAtLeast(0);
+            while (low != -1) {
+                int end = low;
+                while (end < 0xFFFF && container.contains((char) (end + 1))) {
+                    end++;
+                }
+                if (runCount == starts.length) {
+                    starts = Arrays.copyOf(starts, runCount * 2);
+                    ends = Arrays.copyOf(ends, runCount * 2);
+                }
+                starts[runCount] = (char) low;
+                ends[runCount] = (char) end;
+                runCount++;
+                low = end == 0xFFFF ? -1 : container.nextAtLeast(end + 1);
+            }
+            return new RunContainer(Arrays.copyOf(starts, runCount), Arrays.copyOf(ends, runCount), runCount);
+        }
+
+        // index of the last run starting at or before low, -1 if none
+        private int runFor(int low) {
+            int lowIndex = 0;
+            int highIndex = runCount - 1;
+            int found = -1;
+            while (lowIndex <= highIndex) {
+                int mid = (lowIndex + highIndex) >>> 1;
+                if (starts[mid] <= low) {
+                    found = mid;
+                    lowIndex = mid + 1;
+                } else {
+                    highIndex = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        // the same values as an array or bitmap container, which can be changed
+        private Container unpack() {
+            return (cardinality <= ARRAY_MAX) ? toBitmap().shrink() : toBitmap();
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            int run = runFor(low);
+            return run >= 0 && low <= ends[run];
+        }
+
+        @Override
+        Container add(char low) {
+            return contains(low) ? this : unpack().add(low);
+        }
+
+        @Override
+        Container remove(char low) {
+            return contains(low) ? unpack().remove(low) : this;
+        }
+
+        @Override
+        int rank(char low) {
+            int count = 0;
+            for (int i = 0; i < runCount && starts[i] < low; i++) {
+                count += Math.min(ends[i], low - 1) - starts[i] + 1;
+            }
+            return count;
+        }
+
+        @Override
+        int select(int index) {
+            for (int i = 0; i < runCount; i++) {
+                int length = ends[i] - starts[i] + 1;
+                if (index < length) {
+                    return starts[i] + index;
+                }
+                index -= length;
+            }
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        @Override
+        int nextAtLeast(int low) {
+            int run = runFor(low);
+            if (run >= 0 && low <= ends[run]) {
+                return low;
+            }
+            return run + 1 < runCount ? starts[run + 1] : -1;
+        }
+
+        @Override
+        void forEach(char high, IntConsumer action) {
+            for (int i = 0; i < runCount; i++) {
+                for (int low = starts[i]; low <= ends[i]; low++) {
+                    action.accept(value(high, low));
+                }
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < runCount; i++) {
+                for (int low = starts[i]; low <= ends[i]; low++) {
+                    bitmap.words[low >>> 6] |= 1L << low;
+                }
+            }
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        @Override
+        Container copy() {
+            return this;                // never changed in place
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 4 * runCount;
+        }
+
+        @Override
+        Container runOptimize() {
+            return this;
+        }
+    }
+
+}       // end of RoaringIntSet
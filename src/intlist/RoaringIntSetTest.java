@@ -0,0 +1,184 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringIntSetTest {
+
+    private static int[] toInts(TreeSet<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    void addRemoveContains() {
+        RoaringIntSet set = new RoaringIntSet();
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        assertTrue(set.add(-3));
+        assertTrue(set.add(1 << 20));
+        assertTrue(set.add(Integer.MIN_VALUE));
+        assertTrue(set.add(Integer.MAX_VALUE));
+
+        assertEquals("[-2147483648, -3, 5, 1048576, 2147483647]", set.toString());
+        assertTrue(set.contains(-3));
+        assertFalse(set.contains(4));
+        assertTrue(set.remove(5));
+        assertFalse(set.remove(5));
+        assertEquals(4, set.cardinality());
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertEquals("[]", set.toString());
+    }
+
+    @Test
+    void rankAndSelect() {
+        RoaringIntSet set = RoaringIntSet.of(10, 20, 30, 70_000, 70_001);
+
+        assertEquals(0, set.rank(10));
+        assertEquals(1, set.rank(11));
+        assertEquals(3, set.rank(70_000));
+        assertEquals(5, set.rank(Integer.MAX_VALUE));
+        assertEquals(2, set.indexOf(30));
+        assertEquals(-1, set.indexOf(31));
+        assertEquals(70_001, set.select(4));
+        assertEquals(10, set.select(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.select(5));
+    }
+
+    @Test
+    void randomSetsMatchTreeSet() {
+        Random random = new Random(11);
+        // a dense range (bitmap containers) and a sparse one (array containers)
+        RoaringIntSet set = new RoaringIntSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 60_000; i++) {
+            int value = (i % 2 == 0) ? random.nextInt(20_000) : random.nextInt();
+            assertEquals(expected.add(value), set.add(value));
+        }
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(20_000);
+            assertEquals(expected.remove(value), set.remove(value));
+        }
+
+        assertEquals(expected.size(), set.cardinality());
+        assertArrayEquals(toInts(expected), set.toArray());
+        assertArrayEquals(toInts(expected), set.stream().toArray());
+        int index = 0;
+        for (int value : expected) {
+            if (index % 97 == 0) {
+                assertEquals(index, set.indexOf(value));
+                assertEquals(value, set.select(index));
+            }
+            index++;
+        }
+    }
+
+    @Test
+    void setOperations() {
+        Random random = new Random(12);
+        RoaringIntSet a = new RoaringIntSet();
+        RoaringIntSet b = new RoaringIntSet();
+        TreeSet<Integer> expectedA = new TreeSet<>();
+        TreeSet<Integer> expectedB = new TreeSet<>();
+        for (int i = 0; i < 30_000; i++) {
+            int valueA = random.nextInt(200_000);
+            int valueB = (i % 3 == 0) ? random.nextInt(10_000) : random.nextInt(200_000);
+            a.add(valueA);
+            expectedA.add(valueA);
+            b.add(valueB);
+            expectedB.add(valueB);
+        }
+        for (int value = 150_000; value < 160_000; value++) {      // a long run
+            a.add(value);
+            expectedA.add(value);
+        }
+
+        for (int round = 0; round < 2; round++) {
+            TreeSet<Integer> and = new TreeSet<>(expectedA);
+            and.retainAll(expectedB);
+            TreeSet<Integer> or = new TreeSet<>(expectedA);
+            or.addAll(expectedB);
+            TreeSet<Integer> andNot = new TreeSet<>(expectedA);
+            andNot.removeAll(expectedB);
+
+            assertArrayEquals(toInts(and), a.and(b).toArray());
+            assertArrayEquals(toInts(or), a.or(b).toArray());
+            assertArrayEquals(toInts(andNot), a.andNot(b).toArray());
+            assertArrayEquals(toInts(and), b.and(a).toArray());
+
+            a.runOptimize();                    // the same answers with run containers
+            b.runOptimize();
+        }
+    }
+
+    @Test
+    void setOperationsAcrossContainerLimits() {
+        // a bitmap of 6000 values minus an array of 3000 of them leaves 3000: an array again
+        RoaringIntSet bitmap = new RoaringIntSet();
+        RoaringIntSet array = new RoaringIntSet();
+        for (int value = 0; value < 6000; value++) {
+            bitmap.add(value * 3);
+            if (value % 2 == 0) {
+                array.add(value * 3);
+            }
+        }
+        RoaringIntSet rest = bitmap.andNot(array);
+        assertEquals(3000, rest.cardinality());
+        assertEquals(3, rest.select(0));
+        assertTrue(rest.add(0));
+        assertTrue(rest.remove(3));
+        assertEquals(3000, rest.cardinality());
+
+        // two small runs: their or fits an array and stays changeable
+        RoaringIntSet low = new RoaringIntSet();
+        RoaringIntSet high = new RoaringIntSet();
+        for (int value = 0; value < 100; value++) {
+            low.add(value);
+            high.add(1000 + value);
+        }
+        low.runOptimize();
+        high.runOptimize();
+        RoaringIntSet both = low.or(high);
+        assertEquals(200, both.cardinality());
+        assertTrue(both.remove(1050));
+        assertTrue(both.add(500));
+        assertEquals(200, both.cardinality());
+        assertEquals(100, both.rank(500));
+    }
+
+    @Test
+    void runContainersStayCorrectWhenChanged() {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int value = 0; value < 65_536; value++) {
+            set.add(value);
+        }
+        set.runOptimize();
+
+        assertEquals(65_536, set.cardinality());
+        assertTrue(set.contains(65_535));
+        assertEquals(1000, set.rank(1000));
+        assertTrue(set.remove(1000));
+        assertFalse(set.contains(1000));
+        assertEquals(65_535, set.cardinality());
+        assertEquals(1001, set.select(1000));
+    }
+
+    @Test
+    void fromIntList() {
+        ArrayIntList list = new ArrayIntList();
+        list.addAll(new int[] {3, 1, 3, 2});
+        RoaringIntSet set = RoaringIntSet.of(list);
+
+        assertEquals("[1, 2, 3]", set.toString());
+        int sum = 0;
+        for (int value : set) {
+            sum += value;
+        }
+        assertEquals(6, sum);
+    }
+}
@@ -0,0 +1,89 @@
+package intlist;
+
+/**
+ * Search loops over a range of an int[] shared by the array-backed lists.
+ *
+ * When the JVM was started with --add-modules jdk.incubator.vector and the
+ * CPU has SIMD registers of at least 128 bits, the loops run on the Vector
+ * API (VectorScanKernels) and compare a whole register of values per step,
+ * for example 8 ints with AVX2 or 16 with AVX-512. Otherwise they fall back
+ * to plain scalar loops. The choice is made once, when this class loads,
+ * and VectorScanKernels is never loaded when the module is missing.
+ */
+final class ScanKernels {
+
+    // true when the vectorized kernels can and should be used
+    final static boolean VECTORIZED = vectorSupported();
+
+    private ScanKernels() {
+    }
+
+    private static boolean vectorSupported() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorScanKernels.preferredLanes() >= 4;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the index of the first a[i] == value with from <= i < to, or -1.
+     */
+    static int indexOf(int[] a, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorScanKernels.indexOf(a, from, to, value);
+        }
+        return scalarIndexOf(a, from, to, value);
+    }
+
+    /**
+     * Returns the index of the last a[i] == value with from <= i < to, or -1.
+     */
+    static int lastIndexOf(int[] a, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorScanKernels.lastIndexOf(a, from, to, value);
+        }
+        return scalarLastIndexOf(a, from, to, value);
+    }
+
+    /**
+     * Returns how many a[i] == value there are with from <= i < to.
+     */
+    static int count(int[] a, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorScanKernels.count(a, from, to, value);
+        }
+        return scalarCount(a, from, to, value);
+    }
+
+    static int scalarIndexOf(int[] a, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarLastIndexOf(int[] a, int from, int to, int value) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarCount(int[] a, int from, int to, int value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanKernelsTest {
+
+    @Test
+    void kernelsMatchScalarLoops() {
+        Random random = new Random(42);
+        for (int length = 0; length < 100; length++) {
+            int[] values = new int[length + 3];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(8);
+            }
+            // search inside [1, length + 1) so the range does not start at 0
+            for (int value = -1; value < 8; value++) {
+                assertEquals(ScanKernels.scalarIndexOf(values, 1, length + 1, value),
+                        ScanKernels.indexOf(values, 1, length + 1, value));
+                assertEquals(ScanKernels.scalarLastIndexOf(values, 1, length + 1, value),
+                        ScanKernels.lastIndexOf(values, 1, length + 1, value));
+                assertEquals(ScanKernels.scalarCount(values, 1, length + 1, value),
+                        ScanKernels.count(values, 1, length + 1, value));
+            }
+        }
+    }
+
+    @Test
+    void arrayIntListScans() {
+        ArrayIntList theList = new ArrayIntList();
+        for (int i = 0; i < 100; i++) {
+            theList.addBack(i % 10);
+        }
+
+        assertEquals(3, theList.indexOf(3));
+        assertEquals(93, theList.lastIndexOf(3));
+        assertEquals(10, theList.count(3));
+        assertEquals(-1, theList.lastIndexOf(10));
+        assertEquals(0, theList.count(10));
+    }
+
+    @Test
+    void arrayIntListEquals() {
+        ArrayIntList a = new ArrayIntList();
+        ArrayIntList b = new ArrayIntList(100);
+        for (int i = 0; i < 50; i++) {
+            a.addBack(i);
+            b.addBack(i);
+        }
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        b.removeBack();
+        assertNotEquals(a, b);
+        b.addBack(-1);
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    void dequeIndexOfAcrossTheWrap() {
+        ArrayDequeIntList theList = new ArrayDequeIntList();
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);
+        }
+        for (int i = 1; i <= 5; i++) {
+            theList.addFront(-i);          // these wrap to the end of the buffer
+        }
+
+        assertEquals(0, theList.indexOf(-5));
+        assertEquals(4, theList.indexOf(-1));
+        assertEquals(5, theList.indexOf(0));
+        assertEquals(14, theList.indexOf(9));
+        assertEquals(-1, theList.indexOf(42));
+    }
+
+    @Test
+    void linkedLastIndexOf() {
+        LinkedIntList theList = new LinkedIntList();
+        theList.addAll(new int[] {1, 2, 1, 3});
+
+        assertEquals(2, theList.lastIndexOf(1));
+        assertEquals(-1, theList.lastIndexOf(4));
+        assertEquals(2, theList.count(1));
+    }
+}
@@ -0,0 +1,537 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * An array-backed IntList that keeps its values in ascending order
+ * (duplicates allowed).
+ *
+ * Because the values are sorted, contains and indexOf use binary search
+ * and take O(log n) instead of a linear scan, and range questions such as
+ * "how many values lie between lo and hi" are answered with two binary searches.
+ *
+ * Use insert(value) to add a value at its sorted position. The positional
+ * adds from IntList (addFront, addBack, add(index, value)) still work, but
+ * only when the value fits in order at that position; otherwise they throw
+ * IllegalArgumentException. That makes addBack a cheap way to load data that
+ * is already sorted.
+ */
+public class SortedIntList implements IntList {
+    // Internal (private) representation
+    private int[] buffer;
+    private int size;                   // number of "spots used" in the buffer
+
+    private final static int INITIAL_CAPACITY = 10;
+
+    public SortedIntList() {
+        buffer = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    // makes sure there is room for count more values, growing at most once
+    private void ensureRoomFor(int count) {
+        long needed = (long) size + count;
+        if (needed > buffer.length) {
+            if (needed > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Required capacity too large: " + needed);
+            }
+            buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(needed, 2L * buffer.length),
+                    Integer.MAX_VALUE - 8));
+        }
+    }
+
+    /*
+     * Binary search for the first index whose value is >= value
+     * (or > value when strict is true). Returns size if there is none.
+     */
+    private int bound(int value, boolean strict) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int midValue = buffer[mid];
+            if (midValue < value || (strict && midValue == value)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value that is greater than or equal
+     * to the specified value, or size() if every value is smaller.
+     * This is where insert(value) would put a value if it went before its duplicates.
+     *
+     * O(log n)
+     *
+     * @param value value to compare against
+     * @return the index of the first value >= value, or size()
+     */
+    public int indexOfFirstGreaterOrEqual(int value) {
+        return bound(value, false);
+    }
+
+    /**
+     * Returns the index of the first value that is strictly greater than
+     * the specified value, or size() if there is none.
+     *
+     * O(log n)
+     *
+     * @param value value to compare against
+     * @return the index of the first value > value, or size()
+     */
+    public int indexOfFirstGreater(int value) {
+        return bound(value, true);
+    }
+
+    /**
+     * Returns the number of values v in this list with lo <= v <= hi.
+     *
+     * O(log n)
+     *
+     * @param lo the smallest value to count
+     * @param hi the largest value to count
+     * @return the number of values in [lo, hi], 0 if lo > hi
+     */
+    public int countBetween(int lo, int hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        return bound(hi, true) - bound(lo, false);
+    }
+
+    /**
+     * Inserts the specified value at its sorted position, after any
+     * values equal to it, and returns that position.
+     *
+     * O(log n) to find the position, O(n) to shift the values after it
+     *
+     * @param value value to be inserted
+     * @return the index at which the value was inserted
+     */
+    public int insert(int value) {
+        int index = bound(value, true);
+        ensureRoomFor(1);
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = value;
+        size++;
+        return index;
+    }
+
+    // throws if value cannot be placed at index without breaking the order
+    private void checkOrder(int index, int value) {
+        if ((index > 0 && buffer[index - 1] > value) || (index < size && buffer[index] < value)) {
+            throw new IllegalArgumentException("Value " + value + " does not belong at index " + index
+                    + " of a sorted list; use insert(value)");
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     *
+     * @param value value to be inserted
+     * @throws IllegalArgumentException if value is greater than the first value
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     * @throws IllegalArgumentException if value is less than the last value
+     */
+    @Override
+    public void addBack(int value) {
+        checkOrder(size, value);
+        ensureRoomFor(1);
+        buffer[size] = value;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the value does not belong at that index
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        checkOrder(index, value);
+        ensureRoomFor(1);
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = value;
+        size++;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        remove(0);
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        size--;
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int removedValue = buffer[index];
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return buffer[index];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * O(log n) - binary search
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * O(log n) - binary search
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int index = bound(value, false);
+        return (index < size && buffer[index] == value) ? index : -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds all the specified values at their sorted positions.
+     * Unlike the other addAll methods of IntList, the values do not
+     * end up at the back of the list, and do not have to be sorted.
+     *
+     * The values are sorted on their own, then merged into the list from
+     * the back in one pass: O(m log m + n) for m new values instead of
+     * m separate inserts.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        ensureRoomFor(sorted.length);
+
+        // fill the buffer from the back, taking the larger of the two tails each time
+        int i = size - 1;
+        int j = sorted.length - 1;
+        int write = size + sorted.length - 1;
+        while (j >= 0) {
+            if (i >= 0 && buffer[i] > sorted[j]) {
+                buffer[write--] = buffer[i--];
+            } else {
+                buffer[write--] = sorted[j--];
+            }
+        }
+        size += sorted.length;
+    }
+
+    /**
+     * Adds all the values of the specified list at their sorted positions.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other) {
+        addAll(other.toArray());
+    }
+
+    /**
+     * Does nothing: the values are always in ascending order.
+     */
+    @Override
+    public void sort() {
+    }
+
+    /**
+     * Does nothing: the values are always in ascending order.
+     */
+    @Override
+    public void parallelSort() {
+    }
+
+    /**
+     * Checks that the values are already in the order of the comparator,
+     * as they are for IntComparator.naturalOrder(), and then does nothing.
+     * A sorted list cannot take any other order, so it does not quietly
+     * re-sort ascending either.
+     *
+     * Linear time - O(n)
+     *
+     * @param comparator the order to check
+     * @throws NullPointerException if the comparator is null
+     * @throws IllegalArgumentException if the comparator puts the values in
+     * another order than ascending
+     */
+    @Override
+    public void sort(IntComparator comparator) {
+        if (comparator == null) {
+            throw new NullPointerException();
+        }
+        for (int i = 1; i < size; i++) {
+            if (comparator.compare(buffer[i - 1], buffer[i]) > 0) {
+                throw new IllegalArgumentException("A SortedIntList is always in ascending order");
+            }
+        }
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in ascending order.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Removes the values from index fromIndex (inclusive) to index
+     * toIndex (exclusive). Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of
+     * range, or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex
+                    + ", Size: " + size);
+        }
+        System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in ascending order.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new SortedIterator();
+    }
+
+    /**
+     * Returns a cursor over this list that starts in front of the value at
+     * the specified index. Its add(value) and set(value) are checked like
+     * add(index, value): set only overwrites a value with one that keeps
+     * the list in order, and otherwise throws IllegalArgumentException and
+     * leaves the list as it was.
+     *
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before that value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public IntListIterator listIterator(int index) {
+        return new SortedListIterator(index);
+    }
+
+    /**
+     * Returns a spliterator over the values in this list, for streams.
+     * It splits by index range, in halves, straight over the buffer,
+     * so parallel streams divide the work evenly.
+     * It is also SORTED, in ascending order.
+     * The list must not be changed while the spliterator is in use.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(buffer, 0, size, Spliterator.ORDERED | Spliterator.SORTED);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in ascending
+     * order, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        for (int i = 0; i < size; i++) {
+            action.accept(buffer[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        sb.append(buffer[0]);
+        for (int i = 1; i < size; i++) {
+            sb.append(", ").append(buffer[i]);
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // nested or inner class (helper class)
+    public class SortedIterator implements IntIterator {
+        private int currentPosition;
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentPosition < size;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer[currentPosition++];
+        }
+    }
+
+    // nested or inner class (helper class)
+    private class SortedListIterator extends PositionalListIterator {
+
+        SortedListIterator(int index) {
+            super(SortedIntList.this, index);
+        }
+
+        /**
+         * Replaces the last value returned with the given value, in place.
+         *
+         * @param value the new value
+         * @throws IllegalStateException if there is no value to replace
+         * @throws IllegalArgumentException if the value does not keep the list in order
+         */
+        @Override
+        public void set(int value) {
+            int index = lastReturnedIndex();
+            if ((index > 0 && buffer[index - 1] > value) || (index + 1 < size && buffer[index + 1] < value)) {
+                throw new IllegalArgumentException("Value " + value + " does not belong at index " + index
+                        + " of a sorted list");
+            }
+            buffer[index] = value;
+        }
+    }
+
+}       // end of SortedIntList
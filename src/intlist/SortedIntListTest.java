@@ -0,0 +1,139 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedIntListTest {
+
+    @Test
+    void insertKeepsOrder() {
+        SortedIntList theList = new SortedIntList();
+        assertEquals(0, theList.insert(5));
+        assertEquals(0, theList.insert(1));
+        assertEquals(2, theList.insert(9));
+        assertEquals(2, theList.insert(5));      // after the equal value
+
+        assertEquals("[1, 5, 5, 9]", theList.toString());
+    }
+
+    @Test
+    void positionalAddsMustKeepOrder() {
+        SortedIntList theList = new SortedIntList();
+        theList.addBack(1);
+        theList.addBack(3);
+        theList.addFront(0);
+        theList.add(2, 2);
+        assertEquals("[0, 1, 2, 3]", theList.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> theList.addBack(2));
+        assertThrows(IllegalArgumentException.class, () -> theList.addFront(1));
+        assertThrows(IllegalArgumentException.class, () -> theList.add(1, 5));
+    }
+
+    @Test
+    void containsAndIndexOfUseBinarySearch() {
+        SortedIntList theList = new SortedIntList();
+        theList.addAll(new int[] {7, 3, 3, 3, 9, 1});
+
+        assertEquals("[1, 3, 3, 3, 7, 9]", theList.toString());
+        assertEquals(1, theList.indexOf(3));     // the first occurrence
+        assertEquals(-1, theList.indexOf(4));
+        assertTrue(theList.contains(9));
+        assertFalse(theList.contains(10));
+        assertFalse(theList.contains(0));
+    }
+
+    @Test
+    void rangeQueries() {
+        SortedIntList theList = new SortedIntList();
+        theList.addAll(new int[] {1, 3, 3, 3, 7, 9});
+
+        assertEquals(1, theList.indexOfFirstGreaterOrEqual(2));
+        assertEquals(1, theList.indexOfFirstGreaterOrEqual(3));
+        assertEquals(4, theList.indexOfFirstGreater(3));
+        assertEquals(6, theList.indexOfFirstGreaterOrEqual(10));
+        assertEquals(4, theList.countBetween(3, 7));
+        assertEquals(6, theList.countBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, theList.countBetween(4, 6));
+        assertEquals(0, theList.countBetween(7, 3));
+    }
+
+    @Test
+    void addAllMergesWithExistingValues() {
+        SortedIntList theList = new SortedIntList();
+        Random random = new Random(42);
+        int[] all = new int[0];
+        for (int round = 0; round < 20; round++) {
+            int[] values = new int[random.nextInt(50)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(100) - 50;
+            }
+            theList.addAll(values);
+
+            int[] merged = Arrays.copyOf(all, all.length + values.length);
+            System.arraycopy(values, 0, merged, all.length, values.length);
+            all = merged;
+        }
+
+        Arrays.sort(all);
+        assertArrayEquals(all, theList.toArray());
+    }
+
+    @Test
+    void removeKeepsOrder() {
+        SortedIntList theList = new SortedIntList();
+        theList.addAll(new int[] {5, 4, 3, 2, 1});
+        assertEquals(3, theList.remove(2));
+        theList.removeFront();
+        theList.removeBack();
+
+        assertEquals("[2, 4]", theList.toString());
+        assertEquals(1, theList.insert(3));
+    }
+
+    @Test
+    void filterAndReplaceKeepOrder() {
+        SortedIntList theList = new SortedIntList();
+        theList.addAll(new int[] {5, 1, 4, 2, 3});
+
+        assertTrue(theList.removeIf(value -> value == 3));
+        assertEquals("[1, 2, 4, 5]", theList.toString());
+        theList.replaceAll(value -> 10 - value);        // reverses the order
+        assertEquals("[5, 6, 8, 9]", theList.toString());
+        assertEquals(2, theList.indexOf(8));
+    }
+
+    @Test
+    void listIteratorSetIsChecked() {
+        SortedIntList theList = new SortedIntList();
+        theList.addAll(new int[] {1, 2, 3});
+        IntListIterator cursor = theList.listIterator();
+        cursor.nextInt();
+        assertThrows(IllegalArgumentException.class, () -> cursor.set(10));
+        assertEquals("[1, 2, 3]", theList.toString());
+        cursor.set(0);
+        cursor.nextInt();
+        cursor.set(3);
+        assertEquals("[0, 3, 3]", theList.toString());
+
+        // the generic cursor puts the old value back when the add is refused
+        IntListIterator positional = new PositionalListIterator(theList, 0);
+        positional.nextInt();
+        assertThrows(IllegalArgumentException.class, () -> positional.set(10));
+        assertEquals("[0, 3, 3]", theList.toString());
+    }
+
+    @Test
+    void sortOnlyAcceptsAscendingOrder() {
+        SortedIntList theList = new SortedIntList();
+        theList.addAll(new int[] {3, 1, 2});
+        theList.sort(IntComparator.naturalOrder());
+        assertThrows(IllegalArgumentException.class, () -> theList.sort((a, b) -> Integer.compare(b, a)));
+        assertThrows(NullPointerException.class, () -> theList.sort(null));
+        assertEquals("[1, 2, 3]", theList.toString());
+    }
+}
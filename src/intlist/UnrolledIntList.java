@@ -0,0 +1,485 @@
+package intlist;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An unrolled linked list: a doubly linked list of chunks, where each chunk
+ * holds up to chunkCapacity values in a small int[] instead of one value per node.
+ *
+ * Compared with LinkedIntList this needs about one node per chunk instead of
+ * one per value, and scans (contains, indexOf, iteration) run over plain arrays,
+ * so they follow one pointer per chunk instead of one per value.
+ * Compared with ArrayIntList an insert or remove in the middle only shifts
+ * the values inside one chunk, never the rest of the list.
+ *
+ * Chunks are split in half when an insert finds them full, and merged with
+ * their successor when a removal leaves them less than half full and both fit
+ * in one chunk, so every chunk except possibly the last stays reasonably full.
+ */
+public class UnrolledIntList implements IntList {
+    // helper inner/nested class
+    private static class Chunk {
+        final int[] values;         // the values, in values[0 .. count - 1]
+        int count;                  // number of values in this chunk
+        Chunk next;                 // holds address of next chunk
+        Chunk prev;                 // holds address of previous chunk
+
+        Chunk(int capacity) {
+            values = new int[capacity];
+        }
+    }   // end of class Chunk
+
+    // fields for UnrolledIntList class
+    private Chunk head;             // address of first chunk in list
+    private Chunk tail;             // address of last chunk in list
+    private int size;               // number of values in list
+    private final int chunkCapacity;
+
+    // set by locate(): the offset of the located index inside the returned chunk
+    private int locatedOffset;
+
+    private final static int DEFAULT_CHUNK_CAPACITY = 64;
+
+    public UnrolledIntList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose chunks hold up to chunkCapacity values.
+     * Larger chunks scan faster and use less memory per value,
+     * smaller chunks make inserts and removes in the middle cheaper.
+     *
+     * @param chunkCapacity values per chunk, at least 4
+     * @throws IllegalArgumentException if chunkCapacity is less than 4
+     */
+    public UnrolledIntList(int chunkCapacity) {
+        if (chunkCapacity < 4) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 4: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /*
+     * Returns the chunk holding the value at index, walking from head or
+     * from tail, whichever is closer, and leaves the offset of the index
+     * inside that chunk in locatedOffset. The index must be in [0, size).
+     */
+    private Chunk locate(int index) {
+        Chunk current;
+        if (index < size / 2) {
+            current = head;
+            while (index >= current.count) {
+                index -= current.count;
+                current = current.next;
+            }
+        } else {
+            // count how many values lie after index, then walk back
+            int fromBack = size - 1 - index;
+            current = tail;
+            while (fromBack >= current.count) {
+                fromBack -= current.count;
+                current = current.prev;
+            }
+            index = current.count - 1 - fromBack;
+        }
+        locatedOffset = index;
+        return current;
+    }
+
+    // links a new, empty chunk right after the given chunk (or at the front if it is null)
+    private Chunk linkAfter(Chunk chunk) {
+        Chunk newChunk = new Chunk(chunkCapacity);
+        newChunk.prev = chunk;
+        newChunk.next = (chunk == null) ? head : chunk.next;
+        if (newChunk.next == null) {
+            tail = newChunk;
+        } else {
+            newChunk.next.prev = newChunk;
+        }
+        if (chunk == null) {
+            head = newChunk;
+        } else {
+            chunk.next = newChunk;
+        }
+        return newChunk;
+    }
+
+    private void unlink(Chunk chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+    }
+
+    // inserts value at offset inside a chunk that is known not to be full
+    private void insertInto(Chunk chunk, int offset, int value) {
+        System.arraycopy(chunk.values, offset, chunk.values, offset + 1, chunk.count - offset);
+        chunk.values[offset] = value;
+        chunk.count++;
+        size++;
+    }
+
+    /*
+     * Removes the value at offset inside the chunk, then drops the chunk if it
+     * became empty, or merges it with its successor if it is less than half
+     * full and both fit in one chunk.
+     */
+    private int removeFrom(Chunk chunk, int offset) {
+        int removedValue = chunk.values[offset];
+        System.arraycopy(chunk.values, offset + 1, chunk.values, offset, chunk.count - offset - 1);
+        chunk.count--;
+        size--;
+
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else if (chunk.count < chunkCapacity / 2 && chunk.next != null
+                && chunk.count + chunk.next.count <= chunkCapacity) {
+            Chunk next = chunk.next;
+            System.arraycopy(next.values, 0, chunk.values, chunk.count, next.count);
+            chunk.count += next.count;
+            unlink(next);
+        }
+        return removedValue;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * O(chunkCapacity) - only the values in the first chunk are shifted
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        if (head == null || head.count == chunkCapacity) {
+            linkAfter(null);
+        }
+        insertInto(head, 0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * O(1) constant time
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        if (tail == null || tail.count == chunkCapacity) {
+            linkAfter(tail);
+        }
+        tail.values[tail.count++] = value;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * O(size / chunkCapacity) to find the chunk, from whichever end is closer,
+     * then O(chunkCapacity) to shift inside it (splitting it first if it is full)
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            addBack(value);
+            return;
+        }
+        Chunk chunk = locate(index);
+        int offset = locatedOffset;
+        if (chunk.count == chunkCapacity) {
+            // split: move the upper half of the chunk into a new chunk after it
+            Chunk newChunk = linkAfter(chunk);
+            int half = chunkCapacity / 2;
+            System.arraycopy(chunk.values, half, newChunk.values, 0, chunkCapacity - half);
+            newChunk.count = chunkCapacity - half;
+            chunk.count = half;
+            if (offset > half) {
+                chunk = newChunk;
+                offset -= half;
+            }
+        }
+        insertInto(chunk, offset, value);
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        removeFrom(head, 0);
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        tail.count--;
+        size--;
+        if (tail.count == 0) {
+            unlink(tail);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Chunk chunk = locate(index);
+        return removeFrom(chunk, locatedOffset);
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * O(size / chunkCapacity) - walks one chunk at a time
+     * from whichever end is closer
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Chunk chunk = locate(index);
+        return chunk.values[locatedOffset];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int base = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                if (values[i] == value) {
+                    return base + i;
+                }
+            }
+            base += chunk.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the list.
+     *
+     * Fills the last chunk and then new, full chunks with System.arraycopy.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        int copied = 0;
+        while (copied < values.length) {
+            if (tail == null || tail.count == chunkCapacity) {
+                linkAfter(tail);
+            }
+            int count = Math.min(values.length - copied, chunkCapacity - tail.count);
+            System.arraycopy(values, copied, tail.values, tail.count, count);
+            tail.count += count;
+            copied += count;
+        }
+        size += values.length;
+    }
+
+    /**
+     * Returns a new array holding all the values in this list, in order
+     * from front to back.
+     *
+     * @return an array of length size() holding the values of this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        int base = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.values, 0, result, base, chunk.count);
+            base += chunk.count;
+        }
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, from front to back.
+     *
+     * @return an IntIterator.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order
+     * from front to back, without boxing the values.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                sb.append(chunk.values[i]).append(", ");
+            }
+        }
+
+        // replace the last ", " with the closing bracket
+        sb.setLength(sb.length() - 2);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    public class UnrolledIterator implements IntIterator {
+        private Chunk chunk;                // chunk holding the next value
+        private int offset;                 // position of the next value in chunk
+
+        public UnrolledIterator() {
+            chunk = head;
+            offset = 0;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return chunk != null && offset < chunk.count;
+        }
+
+        /**
+         * Returns the next element in the iteration, without boxing it.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int result = chunk.values[offset++];
+            if (offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            return result;
+        }
+    }
+
+}       // end of UnrolledIntList
@@ -0,0 +1,127 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledIntListTest {
+
+    @Test
+    void addBackAcrossChunks() {
+        UnrolledIntList theList = new UnrolledIntList(4);
+        for (int i = 0; i < 10; i++) {
+            theList.addBack(i);
+        }
+
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", theList.toString());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, theList.get(i));
+        }
+    }
+
+    @Test
+    void addFrontAcrossChunks() {
+        UnrolledIntList theList = new UnrolledIntList(4);
+        for (int i = 0; i < 10; i++) {
+            theList.addFront(i);
+        }
+
+        assertEquals("[9, 8, 7, 6, 5, 4, 3, 2, 1, 0]", theList.toString());
+        assertEquals(10, theList.size());
+    }
+
+    @Test
+    void addSplitsFullChunk() {
+        UnrolledIntList theList = new UnrolledIntList(4);
+        theList.addAll(new int[] {0, 1, 2, 4});
+        theList.add(3, 3);
+        theList.add(5, 5);
+        theList.add(0, -1);
+
+        assertEquals("[-1, 0, 1, 2, 3, 4, 5]", theList.toString());
+        assertEquals(4, theList.indexOf(3));
+    }
+
+    @Test
+    void removeMergesAndDropsChunks() {
+        UnrolledIntList theList = new UnrolledIntList(4);
+        for (int i = 0; i < 12; i++) {
+            theList.addBack(i);
+        }
+        for (int i = 0; i < 11; i++) {
+            theList.remove(theList.size() / 2);
+        }
+
+        assertEquals(1, theList.size());
+        theList.removeBack();
+        assertTrue(theList.isEmpty());
+        assertThrows(NoSuchElementException.class, theList::removeFront);
+        assertThrows(NoSuchElementException.class, theList::removeBack);
+    }
+
+    @Test
+    void matchesArrayListUnderRandomEdits() {
+        UnrolledIntList theList = new UnrolledIntList(8);
+        ArrayList<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(6);
+            if (expected.isEmpty() || op < 3) {
+                int index = random.nextInt(expected.size() + 1);
+                theList.add(index, i);
+                expected.add(index, i);
+            } else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals((int) expected.remove(index), theList.remove(index));
+            } else if (op == 4) {
+                theList.removeFront();
+                expected.remove(0);
+            } else {
+                theList.removeBack();
+                expected.remove(expected.size() - 1);
+            }
+        }
+
+        assertEquals(expected.size(), theList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((int) expected.get(i), theList.get(i));
+        }
+        assertEquals(expected.toString(), theList.toString());
+    }
+
+    @Test
+    void containsAndIndexOf() {
+        UnrolledIntList theList = new UnrolledIntList(4);
+        theList.addAll(new int[] {5, 6, 7, 8, 9, 10, 7});
+
+        assertTrue(theList.contains(10));
+        assertFalse(theList.contains(11));
+        assertEquals(2, theList.indexOf(7));
+        assertEquals(-1, theList.indexOf(0));
+    }
+
+    @Test
+    void iteratorAndToArray() {
+        UnrolledIntList theList = new UnrolledIntList(4);
+        for (int i = 0; i < 9; i++) {
+            theList.addBack(i);
+        }
+
+        IntIterator itr = theList.iterator();
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8}, theList.toArray());
+    }
+
+    @Test
+    void badChunkCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledIntList(1));
+    }
+}
@@ -0,0 +1,69 @@
+package intlist;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The SIMD versions of the ScanKernels loops, written with the incubating
+ * Vector API. Only ScanKernels calls into this class, and only after checking
+ * that the jdk.incubator.vector module is present, so nothing else may
+ * reference it.
+ *
+ * Each loop compares SPECIES.length() values per step and finishes the
+ * leftover tail of the range (shorter than one vector) with a scalar loop.
+ */
+final class VectorScanKernels {
+
+    // the widest vector shape the CPU supports well
+    private final static VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorScanKernels() {
+    }
+
+    static int preferredLanes() {
+        return SPECIES.length();
+    }
+
+    static int indexOf(int[] a, int from, int to, int value) {
+        int lanes = SPECIES.length();
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += lanes) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, a, i).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        return ScanKernels.scalarIndexOf(a, i, to, value);
+    }
+
+    static int lastIndexOf(int[] a, int from, int to, int value) {
+        int lanes = SPECIES.length();
+        // the tail past the last whole vector is checked first, since it is at the end
+        int wholeEnd = from + SPECIES.loopBound(to - from);
+        int tail = ScanKernels.scalarLastIndexOf(a, wholeEnd, to, value);
+        if (tail != -1) {
+            return tail;
+        }
+        for (int i = wholeEnd - lanes; i >= from; i -= lanes) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, a, i).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.lastTrue();
+            }
+        }
+        return -1;
+    }
+
+    static int count(int[] a, int from, int to, int value) {
+        int lanes = SPECIES.length();
+        int i = from;
+        // count the hits per lane, and add the lanes up once at the end
+        IntVector counts = IntVector.zero(SPECIES);
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += lanes) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, a, i).eq(value);
+            counts = counts.add(1, hits);
+        }
+        return counts.reduceLanes(VectorOperators.ADD) + ScanKernels.scalarCount(a, i, to, value);
+    }
+}